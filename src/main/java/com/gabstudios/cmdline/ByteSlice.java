@@ -0,0 +1,110 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.cmdline;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A token that is a slice of ASCII bytes in a buffer. The bytes are read in place through the <code>CharSequence</code>
+ * methods, so a token can be looked up and matched without a copy. The <code>String</code> is created the first time
+ * toString() is called and then kept. The bytes of the buffer must not change while the token is used.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+final class ByteSlice implements CharSequence {
+
+    /*
+     * The buffer that holds the bytes. Read with absolute gets, so its position is not used.
+     */
+    private final ByteBuffer _buffer;
+
+    /*
+     * The number of bytes in the slice.
+     */
+    private final int _length;
+
+    /*
+     * The index of the first byte of the slice.
+     */
+    private final int _offset;
+
+    /*
+     * The String of the slice once it is created, otherwise null.
+     */
+    private String _string;
+
+    /**
+     * Creates a slice of the buffer. Every byte of the slice must be ASCII.
+     *
+     * @param buffer
+     *            The buffer that holds the bytes.
+     * @param offset
+     *            The index of the first byte.
+     * @param length
+     *            The number of bytes.
+     */
+    ByteSlice(final ByteBuffer buffer, final int offset, final int length) {
+        assert (buffer != null) : "The parameter 'buffer' must not be null.";
+        assert (offset >= 0 && length >= 0 && offset + length <= buffer.limit()) : "The slice is outside the buffer.";
+
+        this._buffer = buffer;
+        this._offset = offset;
+        this._length = length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this._length) {
+            throw new IndexOutOfBoundsException("index " + index + " is outside a length of " + this._length);
+        }
+        return ((char) this._buffer.get(this._offset + index));
+    }
+
+    @Override
+    public int length() {
+        return (this._length);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || end > this._length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + this._length);
+        }
+        return (new ByteSlice(this._buffer, this._offset + start, end - start));
+    }
+
+    @Override
+    public String toString() {
+        if (this._string == null) {
+            final String string;
+            if (this._buffer.hasArray()) {
+                string = new String(this._buffer.array(), this._buffer.arrayOffset() + this._offset, this._length,
+                        StandardCharsets.US_ASCII);
+            } else {
+                final byte[] bytes = new byte[this._length];
+                this._buffer.get(this._offset, bytes);
+                string = new String(bytes, StandardCharsets.US_ASCII);
+            }
+            this._string = string;
+        }
+        return (this._string);
+    }
+}
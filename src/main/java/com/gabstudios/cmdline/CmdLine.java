@@ -19,20 +19,18 @@
 
 package com.gabstudios.cmdline;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import com.gabstudios.cmdline.Token.Type;
-import com.gabstudios.collection.LinkedHashMapTrie;
-import com.gabstudios.collection.Trie;
+import com.gabstudios.collection.LinkedHashMapTrie.TrieNode;
+import com.gabstudios.collection.TrieMap;
 
 /**
  * This class is the main command line parser. Steps to use parser. 1. Define your command definitions.
@@ -55,20 +53,15 @@ import com.gabstudios.collection.Trie;
 public class CmdLine {
 
     /*
-     * A map that holds the key of a command string and a value of a command definition.
+     * Holds the command names with their command definitions and the number of times each name was parsed.
      */
-    private static final Map<String, CommandDefinition> COMMAND_DEFINITION_MAP;
+    private static final CommandNameIndex COMMAND_DEFINITIONS;
 
     /*
      * The listener that will handle commands as they are processed, to the main cmdline class.
      */
     private static final List<Command> DEFAULT_COMMAND_LIST;
 
-    /*
-     * Regex to split the define command method
-     */
-    private static final String DEFINED_COMMAND_REGEX_PARSE_PATTERN = "\\s*,\\s*";
-
     /*
      * The tokenizer that handles the defineCommand(xxxx) method.
      */
@@ -84,11 +77,21 @@ public class CmdLine {
      */
     private static final int MAX_LENGTH = 256;
 
+    /*
+     * The maximum length of an abbreviation. A longer token can not be the prefix of a name in the suggestion Trie.
+     */
+    private static final int MAX_ABBREVIATION_LENGTH = 100;
+
     /*
      * The application name.
      */
     private static String s_applicationName;
 
+    /*
+     * A flag to allow a command name to be abbreviated to any prefix that is unique.
+     */
+    private static boolean s_isAbbreviationAllowed;
+
     /*
      * The listener that will handle commands as they are processed, if it is set. May be 0 to 1.
      */
@@ -100,15 +103,28 @@ public class CmdLine {
     private static String s_version;
 
     /*
-     * Holds the variable names assigned to commands. Variable names are unique across commands. One a variable is used
-     * by a command, another command *may not use* that same variable name.
+     * The cache of parse results, or null while the cache is off.
      */
-    private static final Set<String> VARIABLE_NAME_SET;
+    private static ParseCache s_parseCache;
+
+    /*
+     * A TrieMap of the command names that is used for abbreviations and for word suggestion if the command is not
+     * found. It is only built the first time it is needed, from the names in COMMAND_DEFINITIONS, with the number of
+     * times each name was parsed as its weight so the most used commands are suggested first. Null until it is built
+     * and again after a command is defined.
+     */
+    private static volatile TrieMap<CommandDefinition> s_suggestionTrie;
+
+    /*
+     * Guards the build of the suggestion Trie.
+     */
+    private static final Object SUGGESTION_TRIE_LOCK = new Object();
 
     /*
-     * A Trie that holds the command names. This data structure is used for word suggestion if the command is not found.
+     * Holds the variable names assigned to commands. Variable names are unique across commands. One a variable is used
+     * by a command, another command *may not use* that same variable name.
      */
-    private static final Trie WORD_SUGGESTION_TRIE;
+    private static final Set<String> VARIABLE_NAME_SET;
 
     private static final String NAME_NULL_EMPTY_ERROR = "The parameter 'name' must not be null or empty.";
     private static final String NAME_LESS_EQUAL_ERROR = "The parameter 'name' must be less than or equal to "
@@ -118,8 +134,7 @@ public class CmdLine {
      * The CmdLine constructor.
      */
     static {
-        WORD_SUGGESTION_TRIE = new LinkedHashMapTrie();
-        COMMAND_DEFINITION_MAP = new HashMap<>();
+        COMMAND_DEFINITIONS = new CommandNameIndex();
         VARIABLE_NAME_SET = new HashSet<>();
         DEFINED_COMMAND_TOKENIZER = new CommandDefinitionTokenizer();
         DEFAULT_COMMAND_LIST = new ArrayList<>();
@@ -147,58 +162,15 @@ public class CmdLine {
      */
     public static CmdLine clear() {
         CmdLine.s_commandListener = null;
-        CmdLine.COMMAND_DEFINITION_MAP.clear();
+        CmdLine.s_isAbbreviationAllowed = false;
+        CmdLine.s_parseCache = null;
+        CmdLine.COMMAND_DEFINITIONS.clear();
+        CmdLine.s_suggestionTrie = null;
         CmdLine.VARIABLE_NAME_SET.clear();
-        CmdLine.WORD_SUGGESTION_TRIE.clear();
         CmdLine.DEFAULT_COMMAND_LIST.clear();
         return (CmdLine.INSTANCE);
     }
 
-    /*
-     * Creates the Command if a CommandDefinition exists.
-     */
-    private static Command createCommand(final String commandName, final List<String> tokens) {
-
-        assert ((commandName != null) && (commandName.length() > 0))
-                : "The parameter 'commandName' must not be null or empty";
-        assert (commandName.length() <= CmdLine.MAX_LENGTH) : NAME_LESS_EQUAL_ERROR;
-        assert (tokens != null) : "The parameter 'tokens' must not be null";
-        assert (tokens.size() <= CmdLine.MAX_LENGTH) : NAME_LESS_EQUAL_ERROR;
-
-        final Command command = new Command(commandName);
-        if (!tokens.isEmpty()) {
-            final CommandDefinition commandDefinition = CmdLine.COMMAND_DEFINITION_MAP.get(commandName);
-
-            final String regex = commandDefinition.getRegexValue();
-            Pattern pattern = null;
-            if ((regex != null) && (regex.length() > 0)) {
-                pattern = Pattern.compile(regex);
-            }
-
-            if (commandDefinition.hasRequiredVariables()) {
-                final List<String> names = commandDefinition.getRequiredVariableNames();
-                CmdLine.processVariable(pattern, tokens, names, command, true);
-            }
-
-            if (commandDefinition.hasRequiredVariableLists()) {
-                final String name = commandDefinition.getRequiredVariableListName();
-                CmdLine.processVariableList(pattern, tokens, name, command, true);
-            }
-
-            if (commandDefinition.hasOptionalVariables()) {
-                final List<String> names = commandDefinition.getOptionalVariableNames();
-                CmdLine.processVariable(pattern, tokens, names, command, false);
-            }
-
-            if (commandDefinition.hasOptionalVariableLists()) {
-                final String name = commandDefinition.getOptionalVariableListName();
-                CmdLine.processVariableList(pattern, tokens, name, command, false);
-            }
-        }
-
-        return (command);
-    }
-
     /*
      * Creates a CommandDefinition.
      */
@@ -228,7 +200,6 @@ public class CmdLine {
                                 + "' contains spaces which is not supported.  " + "The definition may need a comma."));
                     } else {
                         command.addName(name);
-                        CmdLine.WORD_SUGGESTION_TRIE.add(name);
                     }
                     break;
                 }
@@ -308,6 +279,7 @@ public class CmdLine {
             throw (new MissingException("Error:  The command name was not defined and is missing."));
         }
 
+        command.compile();
         return (command);
     }
 
@@ -338,13 +310,19 @@ public class CmdLine {
         final CommandDefinition command = CmdLine.createCommandDefinition(tokens);
         final List<String> names = command.getNames();
 
-        for (final String name : names) {
-            final CommandDefinition existingCommand = CmdLine.COMMAND_DEFINITION_MAP.put(name, command);
-            if (existingCommand != null) {
+        // every name is checked before any is added, so a duplicate leaves the definitions unchanged.
+        for (int i = 0; i < names.size(); ++i) {
+            final String name = names.get(i);
+            if ((CmdLine.COMMAND_DEFINITIONS.get(name) != null) || names.subList(0, i).contains(name)) {
                 throw (new DuplicateException(
                         "Error: The command '" + name + "' has already been defined.  Define a new command name."));
             }
         }
+        for (final String name : names) {
+            CmdLine.COMMAND_DEFINITIONS.put(name, command);
+        }
+        CmdLine.s_suggestionTrie = null;
+        CmdLine.invalidateParseCache();
 
         return (CmdLine.INSTANCE);
     }
@@ -371,11 +349,102 @@ public class CmdLine {
             throw new IllegalArgumentException("Invalid command definition string");
         }
 
-        final String[] nameArgTokens = nameArgs.split(CmdLine.DEFINED_COMMAND_REGEX_PARSE_PATTERN);
+        final String[] nameArgTokens = CmdLine.splitDefinition(nameArgs);
         CmdLine.defineCommand(nameArgTokens);
         return (CmdLine.INSTANCE);
     }
 
+    /*
+     * Splits a definition on commas and removes the whitespace around each comma, the same as split("\\s*,\\s*") but
+     * without a regex. java.util.regex builds its character classes from lambdas, so the regex would start up the
+     * lambda machinery when the first command is defined.
+     */
+    private static String[] splitDefinition(final String nameArgs) {
+        final List<String> parts = new ArrayList<>();
+        final int length = nameArgs.length();
+        int start = 0;
+        for (int i = 0; i <= length; ++i) {
+            if ((i == length) || (nameArgs.charAt(i) == ',')) {
+                int end = i;
+                if (i < length) {
+                    while ((end > start) && CmdLine.isDefinitionSpace(nameArgs.charAt(end - 1))) {
+                        --end;
+                    }
+                }
+                parts.add(nameArgs.substring(start, end));
+                start = i + 1;
+                while ((start < length) && CmdLine.isDefinitionSpace(nameArgs.charAt(start))) {
+                    ++start;
+                }
+                // the loop goes on at the start of the next part.
+                i = start - 1;
+            }
+        }
+        // like split(), drop the empty parts at the end.
+        int size = parts.size();
+        while ((size > 0) && parts.get(size - 1).isEmpty()) {
+            --size;
+        }
+        return (parts.subList(0, size).toArray(new String[0]));
+    }
+
+    /*
+     * Determines if the char is whitespace as \\s matches it.
+     */
+    private static boolean isDefinitionSpace(final char c) {
+        return ((c == ' ') || (c == '\t') || (c == '\n') || (c == '\u000B') || (c == '\f') || (c == '\r'));
+    }
+
+    /**
+     * Gets the counts of the parse cache.
+     *
+     * @return A <code>ParseCacheStats</code> instance. All of its counts are 0 while the cache is off.
+     *
+     * @see #setParseCacheSize(int)
+     */
+    public static ParseCacheStats getParseCacheStats() {
+        return (CmdLine.s_parseCache != null ? CmdLine.s_parseCache.getStats() : new ParseCacheStats(0, 0, 0, 0, 0));
+    }
+
+    /*
+     * Gets the suggestion Trie and builds it if this is the first time it is needed since a command was defined. The
+     * build is guarded, so that two threads that need it at once build it once.
+     */
+    private static TrieMap<CommandDefinition> getSuggestionTrie() {
+        TrieMap<CommandDefinition> trie = CmdLine.s_suggestionTrie;
+        if (trie == null) {
+            synchronized (CmdLine.SUGGESTION_TRIE_LOCK) {
+                trie = CmdLine.s_suggestionTrie;
+                if (trie == null) {
+                    trie = new TrieMap<>();
+                    CmdLine.COMMAND_DEFINITIONS.copyTo(trie);
+                    CmdLine.s_suggestionTrie = trie;
+                }
+            }
+        }
+        return (trie);
+    }
+
+    /*
+     * Counts a parse of a command name. The suggestion Trie is kept up to date if it has been built.
+     */
+    private static void incrementCommandName(final String commandName) {
+        CmdLine.COMMAND_DEFINITIONS.increment(commandName);
+        final TrieMap<CommandDefinition> trie = CmdLine.s_suggestionTrie;
+        if (trie != null) {
+            trie.increment(commandName);
+        }
+    }
+
+    /*
+     * Removes the cached parse results, which depend on the command definitions and settings.
+     */
+    private static void invalidateParseCache() {
+        if (CmdLine.s_parseCache != null) {
+            CmdLine.s_parseCache.clear();
+        }
+    }
+
     /**
      * Gets the application name that was defined.
      *
@@ -407,13 +476,56 @@ public class CmdLine {
             throw new IllegalArgumentException("Invalid arguments array");
         }
 
-        final List<String> tokens = CmdLine.tokenize(args);
-        CmdLine.processCmdLineTokens(tokens);
+        if (CmdLine.s_parseCache != null) {
+            CmdLine.parseCached(args);
+        } else {
+            final List<String> tokens = CmdLine.tokenize(args);
+            CmdLine.processCmdLineTokens(tokens);
+        }
 
         final List<Command> commands = new ArrayList<>(CmdLine.DEFAULT_COMMAND_LIST);
         return (commands);
     }
 
+    /*
+     * Parses the arguments through the cache. A hit replays what the parse did.
+     */
+    private static void parseCached(final String[] args) {
+        final List<Command> cachedCommands = CmdLine.s_parseCache.get(args);
+        if (cachedCommands == null) {
+            final int start = CmdLine.DEFAULT_COMMAND_LIST.size();
+            CmdLine.processCmdLineTokens(CmdLine.tokenize(args));
+
+            final List<Command> parsedCommands = CmdLine.DEFAULT_COMMAND_LIST.subList(start,
+                    CmdLine.DEFAULT_COMMAND_LIST.size());
+            CmdLine.s_parseCache.put(args, parsedCommands);
+        } else {
+            CmdLine.replayCommands(cachedCommands);
+        }
+    }
+
+    /*
+     * Replays what the parse of cached commands did: the commands are added to the list of commands, the usage of each
+     * command name is counted, the system properties are set and the listener is called.
+     */
+    private static void replayCommands(final List<Command> cachedCommands) {
+        for (final Command command : cachedCommands) {
+            final String name = command.getName();
+            if (CmdLine.isCommandName(name)) {
+                CmdLine.incrementCommandName(name);
+            } else {
+                // the only commands that are not defined are the system properties, with one variable.
+                for (final String key : command.getVariableNames()) {
+                    System.setProperty(key, command.getValues(key).get(0));
+                }
+            }
+            CmdLine.DEFAULT_COMMAND_LIST.add(command);
+            if (CmdLine.s_commandListener != null) {
+                CmdLine.s_commandListener.handle(command);
+            }
+        }
+    }
+
     /**
      * Parse the command line arguments.
      *
@@ -429,197 +541,279 @@ public class CmdLine {
         return (CmdLine.parse(args));
     }
 
-    /*
-     * Processes the String tokens and creates Command.
+    /**
+     * Parse a command line that is one string, such as <code>-logfile "/var/log/a b.log" -verbose -Dx=y</code>. The
+     * line is split into arguments the way a POSIX shell splits words: unquoted whitespace separates arguments, a
+     * backslash escapes the next character, single quotes keep every character, and double quotes keep every character
+     * except that a backslash escapes $, `, ", \ and a newline. Nothing is expanded. The arguments then give the same
+     * tokens as parse(String[]), so '=' and ',' split an argument even when they are quoted. When the parse cache is
+     * on, the result is cached by the line, so a line that is parsed again is not split again.
+     *
+     * @param line
+     *            The command line. Must not be null, must hold at least one argument and no more than 256.
+     *
+     * @return A new List instance holding the commands.
      */
-    private static void processCmdLineTokens(final List<String> tokens) {
-
-        assert ((tokens != null) && (!tokens.isEmpty())) : "The parameter 'tokens' must not be null or empty";
-        assert (tokens.size() <= CmdLine.MAX_LENGTH)
-                : "The parameter 'tokens' must be less than or equal to " + CmdLine.MAX_LENGTH;
-
-        final String tokenValue = tokens.remove(0);
-
-        // check to see that a command definition exists for the current token.
-        if (CmdLine.COMMAND_DEFINITION_MAP.containsKey(tokenValue)) {
-            // if defined, then create a command.
-            final Command command = CmdLine.createCommand(tokenValue, tokens);
-
-            CmdLine.DEFAULT_COMMAND_LIST.add(command);
-
-            // if the listener was set, then notify the listener of the created
-            // command.
-            if (CmdLine.s_commandListener != null) {
-                // TODO - thread call to remove from main thread. add timeout
-                // for processing.
-                CmdLine.s_commandListener.handle(command);
-            }
-
-            // Have all tokens been consumed?
-            if (!tokens.isEmpty()) {
-                // Reclusive call and process the remaining
-                // tokens.
-                CmdLine.processCmdLineTokens(tokens);
-            }
+    public static List<Command> parse(final CharSequence line) {
+        if (line == null) {
+            throw new IllegalArgumentException("Invalid command line");
+        }
 
+        if (CmdLine.s_parseCache != null) {
+            CmdLine.parseCached(line.toString());
         } else {
-            // Process -D<property>=<value> if it exists.
-            final boolean processForSystemProperty = CmdLine.processSystemProperty(tokenValue, tokens);
-
-            // if not processed, then the token is not supported.
-            if (!processForSystemProperty) {
-                // if tokenvalue and not a system property then it is not
-                // defined.
-                final List<String> suggestedWords = CmdLine.WORD_SUGGESTION_TRIE.getWords(tokenValue);
-
-                throw (new UnsupportedException("Error: The command name '" + tokenValue + "' is not defined.",
-                        suggestedWords));
-            } else if (!tokens.isEmpty()) {
-                // if the token is supported, recursive call and process the
-                // remaining tokens.
-                CmdLine.processCmdLineTokens(tokens);
+            final List<String> tokens = CmdLine.tokenize(line);
+            if (tokens.isEmpty()) {
+                throw new IllegalArgumentException("Invalid command line");
             }
+            CmdLine.processCmdLineTokens(tokens);
         }
+
+        final List<Command> commands = new ArrayList<>(CmdLine.DEFAULT_COMMAND_LIST);
+        return (commands);
     }
 
     /*
-     * Processes the -D<property>=<value> and adds it to the System property.
+     * Parses a command line through the cache. A hit replays what the parse did without splitting the line.
      */
-    @SuppressWarnings("SizeReplaceableByIsEmpty")
-    private static boolean processSystemProperty(final String valueString, final List<String> tokens) {
-
-        boolean isSystemPropertyProcessed = false;
-        if ((valueString != null) && (tokens != null) && (tokens.size() > 0)) {
-            final int indexOfSystemProperty = valueString.indexOf("-D");
+    private static void parseCached(final String line) {
+        final List<Command> cachedCommands = CmdLine.s_parseCache.get(line);
+        if (cachedCommands == null) {
+            final List<String> tokens = CmdLine.tokenize(line);
+            if (tokens.isEmpty()) {
+                throw new IllegalArgumentException("Invalid command line");
+            }
+            final int start = CmdLine.DEFAULT_COMMAND_LIST.size();
+            CmdLine.processCmdLineTokens(tokens);
 
-            if (indexOfSystemProperty > -1) {
-                final String systemPropertyKey = valueString.substring(indexOfSystemProperty + 2);
+            final List<Command> parsedCommands = CmdLine.DEFAULT_COMMAND_LIST.subList(start,
+                    CmdLine.DEFAULT_COMMAND_LIST.size());
+            CmdLine.s_parseCache.put(line, parsedCommands);
+        } else {
+            CmdLine.replayCommands(cachedCommands);
+        }
+    }
 
-                final String systemPropertyValue = tokens.remove(0);
+    /**
+     * Parse a command line that is one string.
+     *
+     * @param line
+     *            The command line.
+     * @param commandListener
+     *            A listener that will handle the callbacks.
+     *
+     * @return A new List instance holding the commands.
+     *
+     * @see #parse(CharSequence)
+     */
+    public static List<Command> parse(final CharSequence line, final CommandListener commandListener) {
+        CmdLine.setCommandListener(commandListener);
+        return (CmdLine.parse(line));
+    }
 
-                isSystemPropertyProcessed = true;
-                System.setProperty(systemPropertyKey, systemPropertyValue);
+    /**
+     * Parse command line arguments that are NUL-separated bytes, such as the contents of /proc/&lt;pid&gt;/cmdline. The
+     * bytes from the position to the limit of the buffer are read without changing the position; a NUL after the last
+     * argument is optional. The program name that starts /proc/&lt;pid&gt;/cmdline is an argument like any other, so
+     * move the position past it when it is not a command.
+     * <p>
+     * The tokens are kept as slices of the buffer and a value is only made into a <code>String</code> when it is read
+     * from a <code>Command</code>. Tokens that are not ASCII are decoded as UTF-8 when they are parsed. The bytes of
+     * the buffer must not change while the commands are used.
+     *
+     * @param args
+     *            The NUL-separated arguments. Must not be null or empty, and must hold no more than 256 arguments.
+     *
+     * @return A new List instance holding the commands.
+     */
+    public static List<Command> parse(final ByteBuffer args) {
+        if (args == null) {
+            throw new IllegalArgumentException("Invalid arguments array");
+        }
 
-                final Command command = new Command(valueString);
-                command.addVariable(systemPropertyKey, systemPropertyValue);
+        final List<CharSequence> tokens = CmdLine.tokenize(args);
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("Invalid arguments array");
+        }
+        CmdLine.processCmdLineTokens(tokens);
 
-                CmdLine.DEFAULT_COMMAND_LIST.add(command);
+        final List<Command> commands = new ArrayList<>(CmdLine.DEFAULT_COMMAND_LIST);
+        return (commands);
+    }
 
-                if (CmdLine.s_commandListener != null) {
-                    // TODO - thread call to remove from main thread. add
-                    // timeout for processing.
-                    CmdLine.s_commandListener.handle(command);
-                }
-            }
-        }
-        return (isSystemPropertyProcessed);
+    /**
+     * Parse command line arguments that are NUL-separated bytes.
+     *
+     * @param args
+     *            The NUL-separated arguments.
+     * @param commandListener
+     *            A listener that will handle the callbacks.
+     *
+     * @return A new List instance holding the commands.
+     *
+     * @see #parse(ByteBuffer)
+     */
+    public static List<Command> parse(final ByteBuffer args, final CommandListener commandListener) {
+        CmdLine.setCommandListener(commandListener);
+        return (CmdLine.parse(args));
     }
 
     /*
-     * Process the required and optional variables that are associated with a command.
+     * Processes the String tokens and creates Command. The tokens are read through an index; the values of a command
+     * are read by the program of its definition.
      */
-    private static void processVariable(final Pattern pattern, final List<String> tokens,
-            final List<String> definedVariableNames, final Command command, final boolean required) {
-
-        // pattern can be null.
+    private static void processCmdLineTokens(final List<? extends CharSequence> tokens) {
 
-        assert (tokens != null) : "The parameter 'tokens' must not be null.";
+        assert ((tokens != null) && (!tokens.isEmpty())) : "The parameter 'tokens' must not be null or empty";
         assert (tokens.size() <= CmdLine.MAX_LENGTH)
                 : "The parameter 'tokens' must be less than or equal to " + CmdLine.MAX_LENGTH;
+        assert (tokens instanceof RandomAccess) : "The parameter 'tokens' is read by index and must be random access";
+
+        final int length = tokens.size();
+        int index = 0;
+        while (index < length) {
+            final CharSequence tokenValue = tokens.get(index++);
+
+            // the name is the String of the definition, so a token that is a slice of a buffer is not copied.
+            String commandName = (tokenValue.length() > 0) ? CmdLine.COMMAND_DEFINITIONS.getName(tokenValue) : null;
+
+            // a token that is not a command name may be an abbreviation. The node at the end of it gives both the
+            // command name it resolves to and, if it does not resolve, whether it is ambiguous.
+            TrieNode abbreviationNode = null;
+            if ((commandName == null) && CmdLine.isAbbreviation(tokenValue)) {
+                final TrieMap<CommandDefinition> trie = CmdLine.getSuggestionTrie();
+                abbreviationNode = trie.getNode(tokenValue);
+                commandName = trie.getUniqueWord(abbreviationNode, tokenValue);
+            }
 
-        assert (definedVariableNames != null) : "The parameter 'definedVariableNames' must not be null.";
-        assert (definedVariableNames.size() <= CmdLine.MAX_LENGTH)
-                : "The parameter 'definedVariableNames' must be less than or equal to " + CmdLine.MAX_LENGTH;
-
-        assert (command != null) : "The parameter 'command' must not be null.";
-
-        for (final String varName : definedVariableNames) {
-            // A varName must not start with a space, otherwise an exception is
-            // thrown.
-            if (varName.contains(" ")) {
-                throw (new UnsupportedException("Error: The variable name '" + varName
-                        + "' contains spaces which is not supported.  The definition may need a comma."));
-            } else if ((tokens.isEmpty()) && !required) {
-                // if there isnt any info from the command line and this
-                // variable is not required then break and exit.
-                break;
-            } else if ((tokens.isEmpty()) && required) {
-                // if there isnt any info from the command line but this
-                // variable is required then throw exception.
-                throw (new MissingException(
-                        "Error:  The value for the required variable '" + varName + "' is missing."));
-            } else {
+            // check to see that a command definition exists for the current token.
+            if (commandName != null) {
+                // if defined, then create a command.
+                final Command command = new Command(commandName);
+                if (index < length) {
+                    final CommandDefinition commandDefinition = CmdLine.COMMAND_DEFINITIONS.get(commandName);
+                    index = commandDefinition.getProgram().execute(tokens, index, command);
+                }
 
-                final String argToken = tokens.remove(0);
+                CmdLine.DEFAULT_COMMAND_LIST.add(command);
+                CmdLine.incrementCommandName(commandName);
 
-                // System.out.println("processVariable: " + name + " : "
-                // + argToken + " = " + _variableNameSet);
+                // if the listener was set, then notify the listener of the created
+                // command.
+                if (CmdLine.s_commandListener != null) {
+                    // TODO - thread call to remove from main thread. add timeout
+                    // for processing.
+                    CmdLine.s_commandListener.handle(command);
+                }
 
-                boolean isMatch = true;
-                if (pattern != null) {
-                    final Matcher matcher = pattern.matcher(argToken);
-                    isMatch = matcher.matches();
-                    if (!isMatch) {
-                        throw (new MatchException("Error:  The value '" + argToken
-                                + "' does not match the expected pattern '" + pattern.toString() + "'."));
+            } else {
+                // Process -D<property>=<value> if it exists.
+                final CharSequence propertyValue = (index < length) ? tokens.get(index) : null;
+                final boolean processForSystemProperty = CmdLine.processSystemProperty(tokenValue, propertyValue);
+
+                // if not processed, then the token is not supported.
+                if (!processForSystemProperty) {
+                    // if tokenvalue and not a system property then it is not
+                    // defined.
+                    if ((abbreviationNode != null) && (abbreviationNode.getWordCount() > 1)) {
+                        final List<String> matchingWords = CmdLine.getSuggestionTrie()
+                                .stream(abbreviationNode, tokenValue).collect(Collectors.toList());
+                        throw (new UnsupportedException(
+                                "Error: The command name '" + tokenValue
+                                        + "' is ambiguous.  It is an abbreviation of more than one command.",
+                                matchingWords));
                     }
-                }
 
-                if (CmdLine.VARIABLE_NAME_SET.contains(varName)) {
-                    command.addVariable(varName, argToken);
+                    final List<String> suggestedWords = CmdLine.getSuggestionTrie().getWords(tokenValue.toString());
+
+                    throw (new UnsupportedException("Error: The command name '" + tokenValue + "' is not defined.",
+                            suggestedWords));
                 }
+                // the value of the property was read.
+                ++index;
             }
         }
     }
 
     /*
-     * Process the required and optional variable lists that are associated with a command.
+     * Determines if the token is the name of a command definition.
      */
-    private static void processVariableList(final Pattern pattern, final List<String> tokens, final String varName,
-            final Command command, final boolean required) {
-        // pattern can be null.
+    static boolean isCommandName(final CharSequence tokenValue) {
+        assert (tokenValue != null) : "The parameter 'tokenValue' must not be null";
 
-        assert (tokens != null) : "The parameter 'tokens' must not be null.";
-        assert (tokens.size() <= CmdLine.MAX_LENGTH)
-                : "The parameter 'tokens' must be less than or equal to " + CmdLine.MAX_LENGTH;
+        return ((tokenValue.length() > 0) && (CmdLine.COMMAND_DEFINITIONS.get(tokenValue) != null));
+    }
 
-        assert ((varName != null) && (varName.length() > 0)) : "The parameter 'varName' must not be null or empty.";
-        assert (varName.length() <= CmdLine.MAX_LENGTH)
-                : "The parameter 'varName' must be less than or equal to " + CmdLine.MAX_LENGTH;
+    /*
+     * Determines if the token may be resolved as an abbreviation of a command name.
+     */
+    private static boolean isAbbreviation(final CharSequence tokenValue) {
+        return (CmdLine.s_isAbbreviationAllowed && (tokenValue.length() > 0)
+                && (tokenValue.length() <= CmdLine.MAX_ABBREVIATION_LENGTH));
+    }
 
-        assert (command != null) : "The parameter 'command' must not be null.";
+    /*
+     * Finds "-D" in the token without making it a String.
+     */
+    private static int indexOfSystemProperty(final CharSequence tokenValue) {
+        final int last = tokenValue.length() - 1;
+        for (int i = 0; i < last; ++i) {
+            if (tokenValue.charAt(i) == '-' && tokenValue.charAt(i + 1) == 'D') {
+                return (i);
+            }
+        }
+        return (-1);
+    }
 
-        if (varName.contains(" ")) {
-            throw (new UnsupportedException("Error: The variable name '" + varName
-                    + "' contains spaces which is not supported.  The definition may need a comma."));
-        } else if ((tokens.isEmpty()) && required) {
-            // if there isnt any info from the command line but this
-            // variable is required then throw exception.
-            throw (new MissingException("Error:  The value for the required variable '" + varName + "' is missing."));
-        } else {
-            while (!tokens.isEmpty() && !CmdLine.COMMAND_DEFINITION_MAP.containsKey(tokens.get(0))) {
+    /*
+     * Processes the -D<property>=<value> and adds it to the System property. The value is the token after it, or null
+     * if there is none.
+     */
+    static boolean processSystemProperty(final CharSequence tokenValue, final CharSequence propertyValue) {
 
-                final String argToken = tokens.remove(0);
+        boolean isSystemPropertyProcessed = false;
+        if ((tokenValue != null) && (propertyValue != null)) {
+            final int indexOfSystemProperty = CmdLine.indexOfSystemProperty(tokenValue);
 
-                // Process -Dsystem.properties=true if on command line.
-                final boolean processedSystemProperty = CmdLine.processSystemProperty(argToken, tokens);
+            if (indexOfSystemProperty > -1) {
+                final String valueString = tokenValue.toString();
+                final String systemPropertyKey = valueString.substring(indexOfSystemProperty + 2);
 
-                if (!processedSystemProperty && CmdLine.VARIABLE_NAME_SET.contains(varName)) {
+                final String systemPropertyValue = propertyValue.toString();
 
-                    if (pattern != null) {
-                        final Matcher matcher = pattern.matcher(argToken);
-                        final boolean isMatch = matcher.matches();
-                        if (!isMatch) {
-                            throw (new MatchException("Error:  The value '" + argToken
-                                    + "' does not match the expected pattern '" + pattern.toString() + "'."));
-                        }
-                    }
+                isSystemPropertyProcessed = true;
+                System.setProperty(systemPropertyKey, systemPropertyValue);
+
+                final Command command = new Command(valueString);
+                command.addVariable(systemPropertyKey, systemPropertyValue);
 
-                    command.addVariable(varName, argToken);
+                CmdLine.DEFAULT_COMMAND_LIST.add(command);
 
+                if (CmdLine.s_commandListener != null) {
+                    // TODO - thread call to remove from main thread. add
+                    // timeout for processing.
+                    CmdLine.s_commandListener.handle(command);
                 }
             }
         }
+        return (isSystemPropertyProcessed);
+    }
+
+    /**
+     * Allows a command name to be abbreviated to any prefix that matches only that command, such as "-verb" for
+     * "-verbose". An exact command name is always matched first. A prefix of more than one command name is reported as
+     * ambiguous with the matching names as the suggestions. The values of a variable list end at the next full command
+     * name; an abbreviation is taken as a value. The default is false and clear() resets it.
+     *
+     * @param isAbbreviationAllowed
+     *            A boolean value of true to allow abbreviations.
+     *
+     * @return The CmdLine instance. Used for chaining calls.
+     */
+    public static CmdLine setAllowAbbreviations(final boolean isAbbreviationAllowed) {
+        CmdLine.s_isAbbreviationAllowed = isAbbreviationAllowed;
+        CmdLine.invalidateParseCache();
+        return (CmdLine.INSTANCE);
     }
 
     /**
@@ -639,6 +833,27 @@ public class CmdLine {
         return (CmdLine.INSTANCE);
     }
 
+    /**
+     * Turns on a cache of parse results for parse(String[]). Arguments that were parsed before return the same commands
+     * without being parsed again; the commands, the usage counts of the command names, the system properties and the
+     * listener calls are the same as for a parse. The cached commands are immutable. The least recently used result is
+     * evicted when the cache is full. The cache is emptied when a command is defined or abbreviations are turned on or
+     * off, and clear() turns it off. A parse that throws an exception is not cached.
+     *
+     * @param maxSize
+     *            The number of results to keep, or 0 to turn the cache off. Must not be negative.
+     *
+     * @return The CmdLine instance. Used for chaining calls.
+     */
+    public static CmdLine setParseCacheSize(final int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The parse cache size cannot be negative");
+        }
+
+        CmdLine.s_parseCache = (maxSize > 0) ? new ParseCache(maxSize) : null;
+        return (CmdLine.INSTANCE);
+    }
+
     /**
      * Sets the listener that will handle the Commands that are created by the parser.
      *
@@ -681,12 +896,165 @@ public class CmdLine {
 
         // TODO - add assert for max length.
 
-        return Arrays.stream(args).flatMap(arg -> Arrays.stream(arg.split("="))) // Split each arg on '=', flatten into
-                                                                                 // a single stream
-                .flatMap(eqPart -> Arrays.stream(eqPart.split(","))) // Split each part on ',', flatten again
-                .filter(s -> !s.isEmpty()) // Remove empty strings (handles standalone '=' or ',')
-                .map(String::trim) // Trim whitespace
-                .collect(Collectors.toList()); // Collect into a List<String>
+        // split each arg on '=' and ',', drop the empty parts and trim the others. A loop rather than a stream, so
+        // that the first parse does not start up the lambda and stream machinery.
+        final List<String> tokens = new ArrayList<>(args.length + 4);
+        for (final String arg : args) {
+            final int length = arg.length();
+            int start = 0;
+            for (int i = 0; i <= length; ++i) {
+                if ((i == length) || (arg.charAt(i) == '=') || (arg.charAt(i) == ',')) {
+                    if (i > start) {
+                        tokens.add(arg.substring(start, i).trim());
+                    }
+                    start = i + 1;
+                }
+            }
+        }
+        return (tokens);
+    }
+
+    /*
+     * Splits a command line into tokens in one pass. The quoting and escaping decide where an argument ends; each
+     * argument is split on '=' and ',' as it is read, empty parts are dropped and the rest are trimmed, the same as
+     * tokenize(String[]) does for the split arguments.
+     */
+    protected static List<String> tokenize(final CharSequence line) {
+        assert (line != null) : "The parameter 'line' must not be null";
+
+        final List<String> tokens = new ArrayList<>();
+        final StringBuilder part = new StringBuilder();
+        final int length = line.length();
+        int argCount = 0;
+        boolean isInArg = false;
+        char quote = 0;
+        for (int i = 0; i < length; ++i) {
+            char character = line.charAt(i);
+            if (quote == '\'') {
+                if (character == '\'') {
+                    quote = 0;
+                    continue;
+                }
+            } else if (character == '\\') {
+                // an escaped newline joins the lines; in double quotes only $ ` " \ and newline are escaped.
+                if (i + 1 == length) {
+                    throw new IllegalArgumentException("The command line ends with an escape");
+                }
+                final char next = line.charAt(i + 1);
+                if ((quote == 0) || (next == '$') || (next == '`') || (next == '"') || (next == '\\')
+                        || (next == '\n')) {
+                    ++i;
+                    if (next == '\n') {
+                        continue;
+                    }
+                    character = next;
+                }
+            } else if (quote == '"') {
+                if (character == '"') {
+                    quote = 0;
+                    continue;
+                }
+            } else if ((character == '\'') || (character == '"')) {
+                quote = character;
+                isInArg = true;
+                continue;
+            } else if ((character == ' ') || (character == '\t') || (character == '\n')) {
+                if (isInArg) {
+                    CmdLine.addToken(tokens, part);
+                    ++argCount;
+                    isInArg = false;
+                }
+                continue;
+            }
+
+            isInArg = true;
+            if ((character == '=') || (character == ',')) {
+                CmdLine.addToken(tokens, part);
+            } else {
+                part.append(character);
+            }
+        }
+
+        if (quote != 0) {
+            throw new IllegalArgumentException("The command line has an unclosed " + quote + " quote");
+        }
+        if (isInArg) {
+            CmdLine.addToken(tokens, part);
+            ++argCount;
+        }
+        if (argCount > CmdLine.MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid command line");
+        }
+        return (tokens);
+    }
+
+    /*
+     * Adds the part of an argument as a trimmed token if it is not empty, and starts the next part.
+     */
+    private static void addToken(final List<String> tokens, final StringBuilder part) {
+        if (part.length() > 0) {
+            tokens.add(part.toString().trim());
+            part.setLength(0);
+        }
+    }
+
+    /*
+     * Converts NUL-separated args into tokens by the same rules as tokenize(String[]): each arg is split on '=' and
+     * ',', empty parts are dropped and the rest are trimmed. An ASCII token is a slice of the buffer; any other token
+     * is decoded as UTF-8.
+     */
+    protected static List<CharSequence> tokenize(final ByteBuffer args) {
+        assert (args != null) : "The parameter 'args' must not be null";
+
+        final List<CharSequence> tokens = new ArrayList<>();
+        final int limit = args.limit();
+        int argCount = 0;
+        int argStart = args.position();
+        int partStart = argStart;
+        for (int i = argStart; i <= limit; ++i) {
+            // the end of the buffer ends the last arg, the same as a NUL.
+            final byte value = (i < limit) ? args.get(i) : 0;
+            if ((value == 0) || (value == '=') || (value == ',')) {
+                if (i > partStart) {
+                    tokens.add(CmdLine.createToken(args, partStart, i));
+                }
+                partStart = i + 1;
+                if (value == 0) {
+                    if ((i < limit) || (i > argStart)) {
+                        ++argCount;
+                    }
+                    argStart = i + 1;
+                }
+            }
+        }
+
+        if (argCount > CmdLine.MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid arguments array");
+        }
+        return (tokens);
+    }
+
+    /*
+     * Creates the token of the bytes from start to end, trimmed the same as String.trim().
+     */
+    private static CharSequence createToken(final ByteBuffer args, final int start, final int end) {
+        int first = start;
+        int last = end;
+        while ((first < last) && ((args.get(first) & 0xFF) <= ' ')) {
+            ++first;
+        }
+        while ((last > first) && ((args.get(last - 1) & 0xFF) <= ' ')) {
+            --last;
+        }
+
+        for (int i = first; i < last; ++i) {
+            if (args.get(i) < 0) {
+                final byte[] bytes = new byte[last - first];
+                args.get(first, bytes);
+                return (new String(bytes, StandardCharsets.UTF_8));
+            }
+        }
+        return (new ByteSlice(args, first, last - first));
     }
 
     private CmdLine() {
@@ -21,9 +21,11 @@ package com.gabstudios.cmdline;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * This class is the command that is created when the command line is parsed. It is sent to the
@@ -43,10 +45,15 @@ public class Command {
 
     /*
      * The variables associated with the command. A variable has a name and value. The value is held in a
-     * <code>List</code> instance.
+     * <code>List</code> instance. A value is a String, or a CharSequence that is made into a String when it is read.
      */
     protected Map<String, List> _variables;
 
+    /*
+     * True once the command is held by the parse cache and is shared by more than one parse.
+     */
+    private boolean _isImmutable;
+
     /**
      * A Command POJO. Associates a name and creates the data structure that holds the variables.F
      *
@@ -69,10 +76,21 @@ public class Command {
      *            The value associated with the name.
      */
     public void addVariable(final String name, final String value) {
+        this.addVariable(name, (CharSequence) value);
+    }
+
+    /*
+     * Adds a variable whose value may be a slice of the parsed input. The value is kept as it is until it is read.
+     */
+    @SuppressWarnings("unchecked")
+    void addVariable(final String name, final CharSequence value) {
         assert ((name != null) && (name.length() > 0)) : NAME_ERROR_STRING;
         assert ((value != null) && (value.length() > 0)) : VALUE_ERROR_STRING;
+        if (this._isImmutable) {
+            throw new UnsupportedOperationException("The command is held by the parse cache and cannot be changed.");
+        }
 
-        List<String> variables;
+        List<CharSequence> variables;
         if (!this._variables.containsKey(name)) {
             // create list
             variables = new LinkedList<>();
@@ -128,13 +146,34 @@ public class Command {
      * @return A new List instance holding one to many Strings.
      */
     public List<String> getValues(final String name) {
-        final List<String> commandValues = this._variables.get(name);
+        final List<?> commandValues = this._variables.get(name);
 
-        // wrap the values into another container so that it is immutable.
-        final List<String> values = (commandValues != null ? new ArrayList<>(commandValues) : new ArrayList<>());
+        // copy the values into another container so that it is immutable.
+        final List<String> values = new ArrayList<>(commandValues != null ? commandValues.size() : 0);
+        if (commandValues != null) {
+            for (final Object value : commandValues) {
+                values.add(value.toString());
+            }
+        }
         return (values);
     }
 
+    /**
+     * Gets the names of the variables of the command.
+     *
+     * @return A new Set instance holding zero to many names.
+     */
+    public Set<String> getVariableNames() {
+        return (new HashSet<>(this._variables.keySet()));
+    }
+
+    /*
+     * Stops the command from being changed once it is held by the parse cache.
+     */
+    void makeImmutable() {
+        this._isImmutable = true;
+    }
+
     /*
      * (non-Javadoc)
      * @see java.lang.Object#hashCode()
@@ -32,6 +32,10 @@ public class CommandDefinition {
     protected List<String> _names;
     protected String _optionalVariableListName;
     protected List<String> _optionalVariables;
+    /*
+     * The program that reads the values of the command. Set by compile().
+     */
+    private CommandProgram _program;
     protected String _regexValue;
     protected String _requiredVariableListName;
     protected List<String> _requiredVariables;
@@ -45,6 +49,13 @@ public class CommandDefinition {
         this._optionalVariables = new ArrayList<>();
     }
 
+    /*
+     * Compiles the definition once it is complete.
+     */
+    void compile() {
+        this._program = CommandProgram.compile(this);
+    }
+
     protected String getDescription() {
         return (this._description);
     }
@@ -76,6 +87,13 @@ public class CommandDefinition {
         this._requiredVariableListName = name;
     }
 
+    /*
+     * Gets the compiled program, or null if compile() has not been called.
+     */
+    CommandProgram getProgram() {
+        return (this._program);
+    }
+
     protected List<String> getOptionalVariableNames() {
         return (this._optionalVariables);
     }
@@ -20,9 +20,7 @@
 package com.gabstudios.cmdline;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes command definitions into {@link Token} objects based on prefixes. Supports the following prefixes: -
@@ -101,10 +99,21 @@ public class CommandDefinitionTokenizer {
             return new ArrayList<>();
         }
 
-        return Arrays.stream(args).flatMap(arg -> Arrays.stream(arg.split("="))) // Split on '=', flatten
-                .flatMap(eqPart -> Arrays.stream(eqPart.split(","))) // Split on ',', flatten
-                .filter(s -> !s.isEmpty()) // Ignore empty strings
-                .map(s -> createToken(s)) // Create tokens (lambda for explicit type inference)
-                .collect(Collectors.toList());
+        // split on '=' and ',' and ignore the empty parts. A loop rather than a stream, so that defining commands
+        // does not start up the lambda and stream machinery.
+        final List<Token> tokens = new ArrayList<>();
+        for (final String arg : args) {
+            final int length = arg.length();
+            int start = 0;
+            for (int i = 0; i <= length; ++i) {
+                if ((i == length) || (arg.charAt(i) == '=') || (arg.charAt(i) == ',')) {
+                    if (i > start) {
+                        tokens.add(createToken(arg.substring(start, i)));
+                    }
+                    start = i + 1;
+                }
+            }
+        }
+        return tokens;
     }
 }
@@ -0,0 +1,213 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.cmdline;
+
+import java.util.Arrays;
+
+import com.gabstudios.collection.TrieMap;
+
+/**
+ * The command names with their definitions and the number of times each was parsed. The names are kept in a flat open
+ * addressing table that is probed linearly, so defining a name is one insert and looking one up is one hash of the
+ * token and usually one compare. A token may be any <code>CharSequence</code>; its hash is the same as the hash of the
+ * equal <code>String</code>, so a slice of a buffer is looked up without creating a <code>String</code>. The order that
+ * the names were defined in is kept as well.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+final class CommandNameIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /*
+     * The number of times each name was parsed, by slot.
+     */
+    private int[] _counts;
+
+    /*
+     * The definition of each name, by slot.
+     */
+    private CommandDefinition[] _definitions;
+
+    /*
+     * The names, by slot. A null slot is empty. The length is a power of 2.
+     */
+    private String[] _names;
+
+    /*
+     * The first _size entries are the names in the order they were defined.
+     */
+    private String[] _order;
+
+    private int _size;
+
+    /**
+     * Creates an empty index.
+     */
+    CommandNameIndex() {
+        this.clear();
+    }
+
+    /*
+     * Gets the hash of the characters, the same as String.hashCode().
+     */
+    private static int hash(final CharSequence name) {
+        if (name instanceof String) {
+            return (name.hashCode());
+        }
+        int hash = 0;
+        final int length = name.length();
+        for (int i = 0; i < length; ++i) {
+            hash = (31 * hash) + name.charAt(i);
+        }
+        return (hash);
+    }
+
+    /**
+     * Removes every name.
+     */
+    void clear() {
+        this._names = new String[INITIAL_CAPACITY];
+        this._definitions = new CommandDefinition[INITIAL_CAPACITY];
+        this._counts = new int[INITIAL_CAPACITY];
+        this._order = new String[INITIAL_CAPACITY / 2];
+        this._size = 0;
+    }
+
+    /**
+     * Adds every name to a Trie with its definition, in the order the names were defined, so that names of equal weight
+     * keep that order. The weight of each name is the number of times it was parsed.
+     *
+     * @param trie
+     *            An empty <code>TrieMap</code> instance.
+     */
+    void copyTo(final TrieMap<CommandDefinition> trie) {
+        assert (trie != null) : "The parameter 'trie' must not be null.";
+
+        for (int i = 0; i < this._size; ++i) {
+            final String name = this._order[i];
+            final int slot = this.findSlot(name);
+            trie.put(name, this._definitions[slot]);
+            if (this._counts[slot] > 0) {
+                trie.increment(name, this._counts[slot]);
+            }
+        }
+    }
+
+    /*
+     * Finds the slot of the name, or the empty slot where it would be added.
+     */
+    private int findSlot(final CharSequence name) {
+        final String[] names = this._names;
+        final int mask = names.length - 1;
+        int slot = CommandNameIndex.hash(name) & mask;
+        while ((names[slot] != null) && !names[slot].contentEquals(name)) {
+            slot = (slot + 1) & mask;
+        }
+        return (slot);
+    }
+
+    /**
+     * Gets the definition of a name.
+     *
+     * @param name
+     *            A <code>CharSequence</code> instance. Not null.
+     *
+     * @return The definition, or null if the name is not defined.
+     */
+    CommandDefinition get(final CharSequence name) {
+        return (this._definitions[this.findSlot(name)]);
+    }
+
+    /**
+     * Gets the <code>String</code> of a name that is held by the index.
+     *
+     * @param name
+     *            A <code>CharSequence</code> instance. Not null.
+     *
+     * @return The name, or null if the name is not defined.
+     */
+    String getName(final CharSequence name) {
+        return (this._names[this.findSlot(name)]);
+    }
+
+    /**
+     * Counts a parse of a name.
+     *
+     * @param name
+     *            A defined name.
+     */
+    void increment(final String name) {
+        final int slot = this.findSlot(name);
+        assert (this._names[slot] != null) : "The name '" + name + "' is not defined.";
+        ++this._counts[slot];
+    }
+
+    /**
+     * Adds a name with its definition. The table doubles when it is half full.
+     *
+     * @param name
+     *            A <code>String</code> instance. Not null or empty.
+     * @param definition
+     *            The definition of the name.
+     *
+     * @return The definition that the name already had, otherwise null. The existing definition is kept.
+     */
+    CommandDefinition put(final String name, final CommandDefinition definition) {
+        assert ((name != null) && (name.length() > 0)) : "The parameter 'name' must not be null or empty.";
+        assert (definition != null) : "The parameter 'definition' must not be null.";
+
+        final int slot = this.findSlot(name);
+        if (this._names[slot] != null) {
+            return (this._definitions[slot]);
+        }
+        this._names[slot] = name;
+        this._definitions[slot] = definition;
+        if (this._size == this._order.length) {
+            this._order = Arrays.copyOf(this._order, this._size * 2);
+        }
+        this._order[this._size] = name;
+        if (++this._size * 2 > this._names.length) {
+            this.resize();
+        }
+        return (null);
+    }
+
+    /*
+     * Doubles the table and adds the names again.
+     */
+    private void resize() {
+        final String[] names = this._names;
+        final CommandDefinition[] definitions = this._definitions;
+        final int[] counts = this._counts;
+
+        this._names = new String[names.length * 2];
+        this._definitions = new CommandDefinition[names.length * 2];
+        this._counts = new int[names.length * 2];
+        for (int i = 0; i < names.length; ++i) {
+            if (names[i] != null) {
+                final int slot = this.findSlot(names[i]);
+                this._names[slot] = names[i];
+                this._definitions[slot] = definitions[i];
+                this._counts[slot] = counts[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.cmdline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A command definition compiled into a flat program that reads the values of a command. Each step of the program is an
+ * opcode and the name of the variable it fills, in the order that the values are expected: the required values, the
+ * required list, the optional values and then the optional list. The regex of the definition is compiled once. The
+ * program is run by one loop over the arguments; it does not look at the definition again.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+final class CommandProgram {
+
+    /*
+     * Takes the next argument as the value of a variable. Throws a MissingException if there is none.
+     */
+    static final byte REQUIRED_VALUE = 0;
+
+    /*
+     * Takes the next argument as the value of a variable. Ends the optional values if there is none.
+     */
+    static final byte OPTIONAL_VALUE = 1;
+
+    /*
+     * Takes the arguments up to the next command name as the values of a list. Throws a MissingException if there is
+     * none.
+     */
+    static final byte REQUIRED_LIST = 2;
+
+    /*
+     * Takes the arguments up to the next command name as the values of a list.
+     */
+    static final byte OPTIONAL_LIST = 3;
+
+    /*
+     * Throws an UnsupportedException, because the variable name contains a space.
+     */
+    static final byte INVALID_NAME = 4;
+
+    /*
+     * The step to go to when an optional value has no argument. The optional values after it are skipped.
+     */
+    private final int _optionalEnd;
+
+    /*
+     * The opcode of each step.
+     */
+    private final byte[] _opcodes;
+
+    /*
+     * The variable name of each step.
+     */
+    private final String[] _operands;
+
+    /*
+     * The regex that every value must match, or null.
+     */
+    private final Pattern _pattern;
+
+    private CommandProgram(final byte[] opcodes, final String[] operands, final int optionalEnd,
+            final Pattern pattern) {
+        this._opcodes = opcodes;
+        this._operands = operands;
+        this._optionalEnd = optionalEnd;
+        this._pattern = pattern;
+    }
+
+    /**
+     * Compiles a command definition.
+     *
+     * @param commandDefinition
+     *            The definition. Its variables must be in the order that defineCommand() allows.
+     *
+     * @return A new <code>CommandProgram</code> instance.
+     *
+     * @throws java.util.regex.PatternSyntaxException
+     *             If the regex of the definition is not valid.
+     */
+    static CommandProgram compile(final CommandDefinition commandDefinition) {
+        assert (commandDefinition != null) : "The parameter 'commandDefinition' must not be null.";
+
+        final List<String> names = new ArrayList<>();
+        final List<Byte> opcodes = new ArrayList<>();
+
+        for (final String name : commandDefinition.getRequiredVariableNames()) {
+            CommandProgram.addStep(opcodes, names, REQUIRED_VALUE, name);
+        }
+        if (commandDefinition.hasRequiredVariableLists()) {
+            CommandProgram.addStep(opcodes, names, REQUIRED_LIST, commandDefinition.getRequiredVariableListName());
+        }
+        for (final String name : commandDefinition.getOptionalVariableNames()) {
+            CommandProgram.addStep(opcodes, names, OPTIONAL_VALUE, name);
+        }
+        final int optionalEnd = opcodes.size();
+        if (commandDefinition.hasOptionalVariableLists()) {
+            CommandProgram.addStep(opcodes, names, OPTIONAL_LIST, commandDefinition.getOptionalVariableListName());
+        }
+
+        final byte[] opcodeArray = new byte[opcodes.size()];
+        for (int i = 0; i < opcodeArray.length; ++i) {
+            opcodeArray[i] = opcodes.get(i);
+        }
+
+        final String regex = commandDefinition.getRegexValue();
+        final Pattern pattern = ((regex != null) && (regex.length() > 0)) ? Pattern.compile(regex) : null;
+
+        return (new CommandProgram(opcodeArray, names.toArray(new String[0]), optionalEnd, pattern));
+    }
+
+    /*
+     * Adds a step. A name with a space is kept as a step that fails, so that the error is reported when the command is
+     * parsed, as it always has been.
+     */
+    private static void addStep(final List<Byte> opcodes, final List<String> names, final byte opcode,
+            final String name) {
+        opcodes.add(name.contains(" ") ? INVALID_NAME : opcode);
+        names.add(name);
+    }
+
+    /**
+     * Runs the program to read the values of a command.
+     *
+     * @param args
+     *            The arguments. Read by index, so the list should be random access.
+     * @param index
+     *            The index of the first argument after the command name.
+     * @param command
+     *            The command that the values are added to.
+     *
+     * @return The index of the first argument that was not read.
+     */
+    int execute(final List<? extends CharSequence> args, final int index, final Command command) {
+        assert (args != null) : "The parameter 'args' must not be null.";
+        assert (command != null) : "The parameter 'command' must not be null.";
+
+        final byte[] opcodes = this._opcodes;
+        final String[] operands = this._operands;
+        final int length = args.size();
+
+        int next = index;
+        for (int pc = 0; pc < opcodes.length; ++pc) {
+            final String name = operands[pc];
+            switch (opcodes[pc]) {
+                case REQUIRED_VALUE: {
+                    if (next == length) {
+                        throw (new MissingException(
+                                "Error:  The value for the required variable '" + name + "' is missing."));
+                    }
+                    command.addVariable(name, this.match(args.get(next++)));
+                    break;
+                }
+                case OPTIONAL_VALUE: {
+                    if (next == length) {
+                        // the step is incremented by the loop.
+                        pc = this._optionalEnd - 1;
+                    } else {
+                        command.addVariable(name, this.match(args.get(next++)));
+                    }
+                    break;
+                }
+                case REQUIRED_LIST: {
+                    if (next == length) {
+                        throw (new MissingException(
+                                "Error:  The value for the required variable '" + name + "' is missing."));
+                    }
+                    next = this.executeList(args, next, name, command);
+                    break;
+                }
+                case OPTIONAL_LIST: {
+                    next = this.executeList(args, next, name, command);
+                    break;
+                }
+                default: {
+                    assert (opcodes[pc] == INVALID_NAME) : "Unknown opcode " + opcodes[pc];
+                    throw (new UnsupportedException("Error: The variable name '" + name
+                            + "' contains spaces which is not supported.  The definition may need a comma."));
+                }
+            }
+        }
+        return (next);
+    }
+
+    /*
+     * Reads the values of a list up to the next command name. A -D<property>=<value> in the list is set as a system
+     * property instead.
+     */
+    private int executeList(final List<? extends CharSequence> args, final int index, final String name,
+            final Command command) {
+        final int length = args.size();
+        int next = index;
+        while ((next < length) && !CmdLine.isCommandName(args.get(next))) {
+            final CharSequence argToken = args.get(next++);
+            final CharSequence propertyValue = (next < length) ? args.get(next) : null;
+            if (CmdLine.processSystemProperty(argToken, propertyValue)) {
+                ++next;
+            } else {
+                command.addVariable(name, this.match(argToken));
+            }
+        }
+        return (next);
+    }
+
+    /*
+     * Checks that the value matches the regex of the definition.
+     */
+    private CharSequence match(final CharSequence value) {
+        if ((this._pattern != null) && !this._pattern.matcher(value).matches()) {
+            throw (new MatchException("Error:  The value '" + value + "' does not match the expected pattern '"
+                    + this._pattern.toString() + "'."));
+        }
+        return (value);
+    }
+}
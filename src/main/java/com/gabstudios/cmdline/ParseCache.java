@@ -0,0 +1,207 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.cmdline;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded cache of parse results keyed by the arguments, or by the command line when it is one string. The least
+ * recently used result is evicted when the cache is full. The results are the commands that one parse created; they are
+ * made immutable so that they can be returned by more than one parse.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+final class ParseCache {
+
+    /*
+     * The key of a parse result. Holds a copy of the arguments and a rolling hash of their characters that is
+     * calculated once. A command line is held as one argument and is marked, because the line "-a -b" is split into two
+     * arguments while the argument "-a -b" is not.
+     */
+    private static final class Key {
+        private final String[] _args;
+        private final int _hash;
+        private final boolean _isLine;
+
+        private Key(final String[] args, final boolean isLine) {
+            this._args = args;
+            this._isLine = isLine;
+            int hash = isLine ? 2 : 1;
+            for (final String arg : args) {
+                final int length = arg.length();
+                for (int i = 0; i < length; ++i) {
+                    hash = (31 * hash) + arg.charAt(i);
+                }
+                // end each arg so that {"ab", "c"} and {"a", "bc"} differ.
+                hash = 31 * hash;
+            }
+            this._hash = hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return ((this._hash == other._hash) && (this._isLine == other._isLine)
+                    && Arrays.equals(this._args, other._args));
+        }
+
+        @Override
+        public int hashCode() {
+            return (this._hash);
+        }
+    }
+
+    /*
+     * The results in the order they were last used.
+     */
+    private final LinkedHashMap<Key, List<Command>> _entries;
+
+    private long _evictionCount;
+    private long _hitCount;
+    private final int _maxSize;
+    private long _missCount;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxSize
+     *            The number of results to hold before the least recently used one is evicted. Must be greater than 0.
+     */
+    ParseCache(final int maxSize) {
+        assert (maxSize > 0) : "The parameter 'maxSize' must be greater than 0.";
+
+        this._maxSize = maxSize;
+        this._entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, List<Command>> eldest) {
+                final boolean isFull = (this.size() > ParseCache.this._maxSize);
+                if (isFull) {
+                    ++ParseCache.this._evictionCount;
+                }
+                return (isFull);
+            }
+        };
+    }
+
+    /**
+     * Removes every result, as when the command definitions change. The counts are kept.
+     */
+    void clear() {
+        this._entries.clear();
+    }
+
+    /**
+     * Gets the result of a parse of the arguments and counts a hit or a miss.
+     *
+     * @param args
+     *            The arguments. Not null.
+     *
+     * @return An immutable list of the commands, or null if the arguments are not in the cache.
+     */
+    List<Command> get(final String[] args) {
+        return (this.get(new Key(args, false)));
+    }
+
+    /**
+     * Gets the result of a parse of a command line and counts a hit or a miss.
+     *
+     * @param line
+     *            The command line. Not null.
+     *
+     * @return An immutable list of the commands, or null if the command line is not in the cache.
+     */
+    List<Command> get(final String line) {
+        return (this.get(new Key(new String[] { line }, true)));
+    }
+
+    /*
+     * Gets the result for the key and counts a hit or a miss.
+     */
+    private List<Command> get(final Key key) {
+        final List<Command> commands = this._entries.get(key);
+        if (commands != null) {
+            ++this._hitCount;
+        } else {
+            ++this._missCount;
+        }
+        return (commands);
+    }
+
+    /**
+     * Gets the counts of the cache.
+     *
+     * @return A <code>ParseCacheStats</code> instance.
+     */
+    ParseCacheStats getStats() {
+        return (new ParseCacheStats(this._hitCount, this._missCount, this._evictionCount, this._entries.size(),
+                this._maxSize));
+    }
+
+    /**
+     * Adds the result of a parse. The commands are made immutable.
+     *
+     * @param args
+     *            The arguments. Not null. The array is copied.
+     * @param commands
+     *            The commands that the parse created.
+     *
+     * @return An immutable list of the commands.
+     */
+    List<Command> put(final String[] args, final List<Command> commands) {
+        return (this.put(new Key(args.clone(), false), commands));
+    }
+
+    /**
+     * Adds the result of a parse of a command line. The commands are made immutable.
+     *
+     * @param line
+     *            The command line. Not null.
+     * @param commands
+     *            The commands that the parse created.
+     *
+     * @return An immutable list of the commands.
+     */
+    List<Command> put(final String line, final List<Command> commands) {
+        return (this.put(new Key(new String[] { line }, true), commands));
+    }
+
+    /*
+     * Adds the result for the key. The commands are made immutable.
+     */
+    private List<Command> put(final Key key, final List<Command> commands) {
+        for (final Command command : commands) {
+            command.makeImmutable();
+        }
+        final List<Command> result = List.copyOf(commands);
+        this._entries.put(key, result);
+        return (result);
+    }
+}
@@ -0,0 +1,109 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.cmdline;
+
+/**
+ * The counts of the parse cache at one point in time.
+ *
+ * @see CmdLine#setParseCacheSize(int)
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+public final class ParseCacheStats {
+
+    private final long _evictionCount;
+    private final long _hitCount;
+    private final int _maxSize;
+    private final long _missCount;
+    private final int _size;
+
+    /*
+     * Created by the cache.
+     */
+    ParseCacheStats(final long hitCount, final long missCount, final long evictionCount, final int size,
+            final int maxSize) {
+        this._hitCount = hitCount;
+        this._missCount = missCount;
+        this._evictionCount = evictionCount;
+        this._size = size;
+        this._maxSize = maxSize;
+    }
+
+    /**
+     * Gets the number of results that were evicted because the cache was full.
+     *
+     * @return A long value of 0 to n.
+     */
+    public long getEvictionCount() {
+        return (this._evictionCount);
+    }
+
+    /**
+     * Gets the number of parses that were answered by the cache.
+     *
+     * @return A long value of 0 to n.
+     */
+    public long getHitCount() {
+        return (this._hitCount);
+    }
+
+    /**
+     * Gets the share of parses that were answered by the cache.
+     *
+     * @return A double value of 0.0 to 1.0. Is 0.0 before the first parse.
+     */
+    public double getHitRate() {
+        final long requestCount = this._hitCount + this._missCount;
+        return (requestCount == 0 ? 0.0 : (double) this._hitCount / requestCount);
+    }
+
+    /**
+     * Gets the number of results that the cache holds before it evicts one. Is 0 when the cache is off.
+     *
+     * @return An integer value of 0 to n.
+     */
+    public int getMaxSize() {
+        return (this._maxSize);
+    }
+
+    /**
+     * Gets the number of parses that were not in the cache.
+     *
+     * @return A long value of 0 to n.
+     */
+    public long getMissCount() {
+        return (this._missCount);
+    }
+
+    /**
+     * Gets the number of results in the cache.
+     *
+     * @return An integer value of 0 to n.
+     */
+    public int getSize() {
+        return (this._size);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ParseCacheStats [hits=%d, misses=%d, evictions=%d, size=%d/%d]", this._hitCount,
+                this._missCount, this._evictionCount, this._size, this._maxSize);
+    }
+}
@@ -0,0 +1,545 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A Trie that is keyed by Unicode code points instead of UTF-16 characters, so a surrogate pair is one key and is never
+ * split. The keys of a node are kept as a sorted <code>int</code> array, so a lookup does not box a key or allocate.
+ * <p>
+ * A case-insensitive CodePointTrie folds each code point while the Trie is walked. The folding of the first code points
+ * (Latin, Greek, Cyrillic and the other two-byte UTF-8 scripts) is read from a precomputed table, so a case-insensitive
+ * contains, getWords or getUniqueWord costs the same as a case-sensitive one. Every node that ends a word keeps the
+ * spelling that the word was first added with, and that spelling is returned by the queries.
+ * <p>
+ * The words are kept in the order of their (folded) code points.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+public final class CodePointTrie implements Trie {
+
+    /*
+     * A node of the Trie. The children are kept in arrays that are sorted by code point.
+     */
+    private static final class CodePointNode {
+        private static final int[] NO_KEYS = new int[0];
+        private static final CodePointNode[] NO_CHILDREN = new CodePointNode[0];
+
+        private final int _codePoint;
+        private final CodePointNode _parent;
+        private int[] _keys;
+        private CodePointNode[] _children;
+        private int _childCount;
+
+        /*
+         * The word that ends at this node, as it was first added. Null if the node is not the end of a word.
+         */
+        private String _word;
+
+        /*
+         * The number of words in the subtree of this node, including this node if it is the end of a word.
+         */
+        private int _wordCount;
+
+        private CodePointNode(final CodePointNode parent, final int codePoint) {
+            this._codePoint = codePoint;
+            this._parent = parent;
+            this._keys = NO_KEYS;
+            this._children = NO_CHILDREN;
+            this._childCount = 0;
+            this._word = null;
+            this._wordCount = 0;
+        }
+
+        /*
+         * Gets the child for the code point or creates it in sorted position.
+         */
+        private CodePointNode addChild(final int codePoint) {
+            final int index = Arrays.binarySearch(this._keys, 0, this._childCount, codePoint);
+            if (index >= 0) {
+                return (this._children[index]);
+            }
+
+            final int position = -(index + 1);
+            if (this._childCount == this._keys.length) {
+                final int capacity = Math.max(2, this._childCount * 2);
+                this._keys = Arrays.copyOf(this._keys, capacity);
+                this._children = Arrays.copyOf(this._children, capacity);
+            }
+            System.arraycopy(this._keys, position, this._keys, position + 1, this._childCount - position);
+            System.arraycopy(this._children, position, this._children, position + 1, this._childCount - position);
+
+            final CodePointNode child = new CodePointNode(this, codePoint);
+            this._keys[position] = codePoint;
+            this._children[position] = child;
+            ++this._childCount;
+            return (child);
+        }
+
+        private void clear() {
+            this._keys = NO_KEYS;
+            this._children = NO_CHILDREN;
+            this._childCount = 0;
+            this._word = null;
+            this._wordCount = 0;
+        }
+
+        private CodePointNode getChild(final int codePoint) {
+            final int index = Arrays.binarySearch(this._keys, 0, this._childCount, codePoint);
+            return (index >= 0 ? this._children[index] : null);
+        }
+
+        private void removeChild(final int codePoint) {
+            final int index = Arrays.binarySearch(this._keys, 0, this._childCount, codePoint);
+            if (index >= 0) {
+                --this._childCount;
+                System.arraycopy(this._keys, index + 1, this._keys, index, this._childCount - index);
+                System.arraycopy(this._children, index + 1, this._children, index, this._childCount - index);
+                this._children[this._childCount] = null;
+            }
+        }
+
+        /*
+         * Adjusts the word count of this node and every ancestor up to the root.
+         */
+        private void updateWordCount(final int delta) {
+            CodePointNode node = this;
+            while (node != null) {
+                node._wordCount += delta;
+                node = node._parent;
+            }
+        }
+    }
+
+    /*
+     * Reads the nodes for the shared walks. A key is a code point, folded when the Trie is case-insensitive, and the
+     * word of a node is the spelling that is kept in the node, so the walks do not build a path.
+     */
+    private final class NodeAccessor implements TrieNodeAccessor<CodePointNode> {
+
+        @Override
+        public String appendKey(final String path, final int key) {
+            return (null);
+        }
+
+        @Override
+        public CodePointNode findChild(final CodePointNode node, final int key) {
+            return (node.getChild(key));
+        }
+
+        @Override
+        public CodePointNode getChild(final CodePointNode node, final int index, final CodePointNode next) {
+            return (node._children[index]);
+        }
+
+        @Override
+        public int getChildCount(final CodePointNode node) {
+            return (node._childCount);
+        }
+
+        @Override
+        public int getKey(final CodePointNode node, final int index, final CodePointNode child) {
+            return (node._keys[index]);
+        }
+
+        @Override
+        public int getKey(final String prefix, final int index) {
+            return (CodePointTrie.this.toKey(prefix.codePointAt(index)));
+        }
+
+        @Override
+        public String getWord(final CodePointNode node, final String path) {
+            return (node._word);
+        }
+
+        @Override
+        public int getWordCount(final CodePointNode node) {
+            return (node._wordCount);
+        }
+
+        @Override
+        public boolean isWord(final CodePointNode node) {
+            return (node._word != null);
+        }
+
+        @Override
+        public int nextIndex(final String prefix, final int index) {
+            return (index + Character.charCount(prefix.codePointAt(index)));
+        }
+
+        @Override
+        public BitSet step(final GlobPattern pattern, final BitSet states, final int key) {
+            return (pattern.stepCodePoint(states, key));
+        }
+    }
+
+    /*
+     * The number of code points that are folded by a table lookup. Covers the scripts that are encoded in two bytes of
+     * UTF-8.
+     */
+    private static final int FOLD_TABLE_SIZE = 0x800;
+
+    /*
+     * The folded code point of each code point below FOLD_TABLE_SIZE.
+     */
+    private static final int[] FOLD_TABLE;
+
+    /*
+     * A reasonable max length for a word in the Trie.
+     */
+    private static final int MAX_WORD_LENGTH = 100;
+
+    static {
+        FOLD_TABLE = new int[FOLD_TABLE_SIZE];
+        for (int codePoint = 0; codePoint < FOLD_TABLE_SIZE; ++codePoint) {
+            FOLD_TABLE[codePoint] = CodePointTrie.computeFold(codePoint);
+        }
+    }
+
+    /*
+     * Folds the case of a code point. Mapping to upper case and then to lower case folds letters such as the long s and
+     * the final sigma, which have no upper case of their own, together with the other forms of the letter.
+     */
+    private static int computeFold(final int codePoint) {
+        return (Character.toLowerCase(Character.toUpperCase(codePoint)));
+    }
+
+    /*
+     * Folds the case of a code point.
+     */
+    private static int fold(final int codePoint) {
+        return (codePoint < FOLD_TABLE_SIZE ? FOLD_TABLE[codePoint] : CodePointTrie.computeFold(codePoint));
+    }
+
+    /*
+     * Reads the nodes for the shared walks.
+     */
+    private final NodeAccessor _accessor;
+
+    /*
+     * A flag to fold the case of the code points.
+     */
+    private final boolean _isCaseInsensitive;
+
+    /*
+     * The root of the Trie. It does not hold a code point.
+     */
+    private final CodePointNode _root;
+
+    /**
+     * Constructor. The Trie is case-sensitive.
+     */
+    public CodePointTrie() {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param isCaseInsensitive
+     *            A flag of true to fold the case of the words, so that words that differ only by case are the same
+     *            word.
+     */
+    public CodePointTrie(final boolean isCaseInsensitive) {
+        this._accessor = new NodeAccessor();
+        this._isCaseInsensitive = isCaseInsensitive;
+        this._root = new CodePointNode(null, -1);
+    }
+
+    /**
+     * Add a word to the Trie. If the word is already contained, in any case when the Trie is case-insensitive, then the
+     * spelling it was first added with is kept.
+     *
+     * @param word
+     *            A <code>String</code> instance. May not be null or empty.
+     */
+    @Override
+    public void add(final String word) {
+        CodePointTrie.validateWord(word);
+
+        final int count = word.length();
+        CodePointNode node = this._root;
+        for (int i = 0; i < count;) {
+            final int codePoint = word.codePointAt(i);
+            i += Character.charCount(codePoint);
+            node = node.addChild(this.toKey(codePoint));
+        }
+        if (node._word == null) {
+            node._word = word;
+            node.updateWordCount(1);
+        }
+    }
+
+    /**
+     * Adds many words to the Trie. The words are validated before any is added.
+     *
+     * @param words
+     *            The words to add. Must not be null and each word must not be null or empty.
+     */
+    @Override
+    public void addAll(final Collection<String> words) {
+        if (words == null) {
+            throw new IllegalArgumentException("words cannot be null");
+        }
+        for (final String word : words) {
+            CodePointTrie.validateWord(word);
+        }
+        for (final String word : words) {
+            this.add(word);
+        }
+    }
+
+    /**
+     * Used to clear and reset the Trie.
+     */
+    @Override
+    public void clear() {
+        this._root.clear();
+    }
+
+    /**
+     * Determines if the word is contained. The word is folded while the Trie is walked, so a case-insensitive lookup
+     * does not allocate.
+     *
+     * @param word
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A boolean value of true if the word is contained, otherwise it is false.
+     */
+    @Override
+    public boolean contains(final String word) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("word cannot be null or empty");
+        }
+
+        final CodePointNode node = this.findNode(word);
+        return (node != null && node._word != null);
+    }
+
+    /**
+     * Counts the words that start with the prefix. The prefix must be fully matched.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return An integer value of 0 to n.
+     */
+    @Override
+    public int countWords(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        final CodePointNode node = this.findNode(prefix);
+        return (node == null ? 0 : node._wordCount);
+    }
+
+    /*
+     * Walks the prefix code point by code point. Returns the node of the last code point or null if the prefix is not
+     * fully contained.
+     */
+    private CodePointNode findNode(final String prefix) {
+        assert (prefix != null) : "The parameter 'prefix' should not be null.";
+
+        return (this._accessor.walk(this._root, prefix));
+    }
+
+    /**
+     * Gets the word that the prefix is the start of if only one word starts with it. The word is returned as it was
+     * first added.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return The word. Null is returned if no word or more than one word starts with the prefix.
+     */
+    @Override
+    public String getUniqueWord(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        CodePointNode node = this.findNode(prefix);
+        if (node == null || node._wordCount != 1) {
+            return (null);
+        }
+
+        // a node with a single word below it is either the word or has a single child.
+        while (node._word == null) {
+            node = node._children[0];
+        }
+        return (node._word);
+    }
+
+    /**
+     * Gets all words contained in the Trie, in code point order.
+     *
+     * @return A <code>List</code> instance containing String words. May be empty if words were not found.
+     */
+    @Override
+    public List<String> getWords() {
+        final List<String> words = new ArrayList<>(this._root._wordCount);
+        this.stream().forEachOrdered(words::add);
+        return (words);
+    }
+
+    /**
+     * Gets words that are a close match to the prefix. The prefix is walked as far as it matches, then every word below
+     * that point is returned.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>List</code> instance containing a matching set of words. May be empty if words were not found.
+     */
+    @Override
+    public List<String> getWords(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        return (TrieSpliterator.getCloseWords(this._accessor, this._root, prefix));
+    }
+
+    /**
+     * Determines if the case of the words is folded.
+     *
+     * @return A boolean value of true if the Trie is case-insensitive, otherwise it is false.
+     */
+    public boolean isCaseInsensitive() {
+        return (this._isCaseInsensitive);
+    }
+
+    /**
+     * Gets the words that match a glob pattern. '?' matches any one code point and '*' matches zero or more code
+     * points. The glob is folded the same as the words.
+     *
+     * @param glob
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>List</code> instance containing the matching words in code point order. May be empty.
+     */
+    @Override
+    public List<String> match(final String glob) {
+        GlobPattern.validate(glob, MAX_WORD_LENGTH);
+
+        final GlobPattern pattern = new GlobPattern(this._isCaseInsensitive ? CodePointTrie.foldAll(glob) : glob);
+        return (pattern.match(this._accessor, this._root));
+    }
+
+    /*
+     * Folds the case of every code point of a string.
+     */
+    private static String foldAll(final String value) {
+        final StringBuilder folded = new StringBuilder(value.length());
+        for (int i = 0; i < value.length();) {
+            final int codePoint = value.codePointAt(i);
+            i += Character.charCount(codePoint);
+            folded.appendCodePoint(CodePointTrie.fold(codePoint));
+        }
+        return (folded.toString());
+    }
+
+    /**
+     * Removes a word from the Trie. The nodes that no longer lead to a word are pruned back toward the root.
+     *
+     * @param word
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A boolean value of true if the word was removed, otherwise it is false if it was not contained.
+     */
+    @Override
+    public boolean remove(final String word) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("word cannot be null or empty");
+        }
+
+        CodePointNode node = this.findNode(word);
+        if (node == null || node._word == null) {
+            return (false);
+        }
+
+        node._word = null;
+        node.updateWordCount(-1);
+
+        // prune the branch that no longer leads to a word.
+        while (node._wordCount == 0 && node._parent != null) {
+            node._parent.removeChild(node._codePoint);
+            node = node._parent;
+        }
+        return (true);
+    }
+
+    /**
+     * Gets the number of words contained in the Trie.
+     *
+     * @return An integer value of 0 to n.
+     */
+    @Override
+    public int size() {
+        return (this._root._wordCount);
+    }
+
+    /**
+     * Gets a <code>Stream</code> of all of the words in code point order. The Trie must not be modified while the
+     * stream is in use.
+     *
+     * @return A <code>Stream</code> instance of String words. May be empty if words were not found.
+     */
+    @Override
+    public Stream<String> stream() {
+        return (TrieSpliterator.stream(this._accessor, this._root, ""));
+    }
+
+    /**
+     * Gets a <code>Stream</code> of the words that start with the prefix. The prefix must be fully matched. The Trie
+     * must not be modified while the stream is in use.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>Stream</code> instance of String words. May be empty if words were not found.
+     */
+    @Override
+    public Stream<String> stream(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        return (TrieSpliterator.stream(this._accessor, this._root, prefix));
+    }
+
+    /*
+     * Gets the key of a code point.
+     */
+    private int toKey(final int codePoint) {
+        return (this._isCaseInsensitive ? CodePointTrie.fold(codePoint) : codePoint);
+    }
+
+    /*
+     * Validates a word parameter.
+     */
+    private static void validateWord(final String word) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("word cannot be null or empty");
+        }
+        if (word.length() > MAX_WORD_LENGTH) { // Enforce a reasonable max length
+            throw new IllegalArgumentException("word length exceeds maximum allowed (100 characters)");
+        }
+    }
+}
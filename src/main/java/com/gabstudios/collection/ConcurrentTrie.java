@@ -0,0 +1,923 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.stream.Stream;
+
+/**
+ * A lock-free implementation of a Trie that may be shared between threads. It follows the Ctrie design (Prokopec et
+ * al., "Concurrent Tries with Efficient Non-Blocking Snapshots"): every character position is an indirection node that
+ * points to an immutable branch node, and an update copies the branch node and swings the indirection node with a
+ * compare-and-set. Indirection nodes are tagged with a generation so that a snapshot is taken in O(1) by replacing the
+ * root; writers lazily copy the nodes of an older generation before changing them. A removed word that leaves a node
+ * without words entombs the node, and the tomb is then cut from its parent, so dead branches are pruned toward the
+ * root. The add, remove, contains and getWords methods never block. The getWords, size and stream methods work on a
+ * read-only snapshot, so they always see a consistent set of words.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+public class ConcurrentTrie implements Trie {
+
+    /*
+     * A generation marker. Only the identity is used.
+     */
+    private static final class Gen {
+        // identity only
+    }
+
+    /*
+     * The main node held by an indirection node. The prev field is used by the generation compare-and-set (GCAS) to
+     * hold the node that is being replaced until the change is committed.
+     */
+    private abstract static class MainNode {
+        private static final AtomicReferenceFieldUpdater<MainNode, MainNode> PREV_UPDATER = AtomicReferenceFieldUpdater
+                .newUpdater(MainNode.class, MainNode.class, "_prev");
+
+        volatile MainNode _prev;
+
+        boolean casPrev(final MainNode expected, final MainNode value) {
+            return (PREV_UPDATER.compareAndSet(this, expected, value));
+        }
+    }
+
+    /*
+     * Marks a GCAS that must be rolled back. Holds the main node that was replaced.
+     */
+    private static final class FailedNode extends MainNode {
+        private FailedNode(final MainNode prev) {
+            this._prev = prev;
+        }
+    }
+
+    /*
+     * The main node of an INode that was pruned. The INode no longer has words and is removed from its parent by the
+     * next update that finds it.
+     */
+    private static final class TNode extends MainNode {
+        // marker only
+    }
+
+    /*
+     * An immutable branch node. The keys are sorted so a child is found with a binary search.
+     */
+    private static final class CNode extends MainNode {
+        private static final char[] NO_KEYS = new char[0];
+        private static final INode[] NO_CHILDREN = new INode[0];
+
+        final boolean _isWord;
+        final char[] _keys;
+        final INode[] _children;
+
+        /*
+         * The number of words in the subtree, or -1 until it is counted. Only set when the node is counted through a
+         * read-only snapshot, where the children can no longer change. A racy write of the same value is harmless.
+         */
+        int _wordCount;
+
+        private CNode(final boolean isWord, final char[] keys, final INode[] children) {
+            this._isWord = isWord;
+            this._keys = keys;
+            this._children = children;
+            this._wordCount = -1;
+        }
+
+        private static CNode empty() {
+            return (new CNode(false, NO_KEYS, NO_CHILDREN));
+        }
+
+        int indexOf(final char key) {
+            return (Arrays.binarySearch(this._keys, key));
+        }
+
+        CNode withWord(final boolean isWord) {
+            return (new CNode(isWord, this._keys, this._children));
+        }
+
+        CNode inserted(final int index, final char key, final INode child) {
+            final int count = this._keys.length;
+            final char[] keys = new char[count + 1];
+            final INode[] children = new INode[count + 1];
+            System.arraycopy(this._keys, 0, keys, 0, index);
+            System.arraycopy(this._children, 0, children, 0, index);
+            keys[index] = key;
+            children[index] = child;
+            System.arraycopy(this._keys, index, keys, index + 1, count - index);
+            System.arraycopy(this._children, index, children, index + 1, count - index);
+            return (new CNode(this._isWord, keys, children));
+        }
+
+        CNode removed(final int index) {
+            final int count = this._keys.length - 1;
+            final char[] keys = new char[count];
+            final INode[] children = new INode[count];
+            System.arraycopy(this._keys, 0, keys, 0, index);
+            System.arraycopy(this._children, 0, children, 0, index);
+            System.arraycopy(this._keys, index + 1, keys, index, count - index);
+            System.arraycopy(this._children, index + 1, children, index, count - index);
+            return (new CNode(this._isWord, keys, children));
+        }
+
+        /*
+         * Copies the node and moves every child indirection node to the generation.
+         */
+        CNode renewed(final Gen gen, final ConcurrentTrie trie) {
+            final INode[] children = new INode[this._children.length];
+            for (int i = 0; i < children.length; ++i) {
+                children[i] = this._children[i].copyToGen(gen, trie);
+            }
+            return (new CNode(this._isWord, this._keys, children));
+        }
+    }
+
+    /*
+     * The indirection node. This is the only node that changes; it always points to a main node.
+     */
+    private static final class INode {
+        private static final AtomicReferenceFieldUpdater<INode, MainNode> MAIN_UPDATER = AtomicReferenceFieldUpdater
+                .newUpdater(INode.class, MainNode.class, "_main");
+
+        final Gen _gen;
+        volatile MainNode _main;
+
+        private INode(final Gen gen, final MainNode main) {
+            this._gen = gen;
+            this._main = main;
+        }
+
+        boolean casMain(final MainNode expected, final MainNode value) {
+            return (MAIN_UPDATER.compareAndSet(this, expected, value));
+        }
+
+        INode copyToGen(final Gen gen, final ConcurrentTrie trie) {
+            return (new INode(gen, trie.gcasRead(this)));
+        }
+    }
+
+    /*
+     * A restricted double-compare single-swap descriptor. The root is only replaced if the main node of the old root
+     * has not changed.
+     */
+    private static final class RDCSSDescriptor {
+        final INode _old;
+        final MainNode _expectedMain;
+        final INode _new;
+        volatile boolean _isCommitted;
+
+        private RDCSSDescriptor(final INode old, final MainNode expectedMain, final INode newRoot) {
+            this._old = old;
+            this._expectedMain = expectedMain;
+            this._new = newRoot;
+            this._isCommitted = false;
+        }
+    }
+
+    /*
+     * Reads the main nodes of a read-only snapshot for the shared walks. A pruned node has no children and no words,
+     * and a walk of a prefix does not step into it.
+     */
+    private final class NodeAccessor implements TrieNodeAccessor<MainNode> {
+
+        @Override
+        public MainNode findChild(final MainNode main, final int key) {
+            if (!(main instanceof CNode)) {
+                return (null);
+            }
+            final CNode cn = (CNode) main;
+            final int index = cn.indexOf((char) key);
+            if (index < 0) {
+                return (null);
+            }
+            final MainNode child = ConcurrentTrie.this.gcasRead(cn._children[index]);
+            return (child instanceof CNode ? child : null);
+        }
+
+        @Override
+        public MainNode getChild(final MainNode main, final int index, final MainNode next) {
+            return (ConcurrentTrie.this.gcasRead(((CNode) main)._children[index]));
+        }
+
+        @Override
+        public int getChildCount(final MainNode main) {
+            return (main instanceof CNode ? ((CNode) main)._keys.length : 0);
+        }
+
+        @Override
+        public int getKey(final MainNode main, final int index, final MainNode child) {
+            return (((CNode) main)._keys[index]);
+        }
+
+        @Override
+        public int getWordCount(final MainNode main) {
+            return (ConcurrentTrie.this.countWords(main));
+        }
+
+        @Override
+        public boolean isImmutable() {
+            return (true);
+        }
+
+        @Override
+        public boolean isWord(final MainNode main) {
+            return (main instanceof CNode && ((CNode) main)._isWord);
+        }
+    }
+
+    /*
+     * The results of an update. RESTART means that the update lost a race and must start again at the root.
+     */
+    private static final int RESTART = 0;
+    private static final int UNCHANGED = 1;
+    private static final int CHANGED = 2;
+
+    /*
+     * A reasonable max length for a word in the Trie.
+     */
+    private static final int MAX_WORD_LENGTH = 100;
+
+    /*
+     * Reads the nodes for the shared walks. Only used on a read-only snapshot.
+     */
+    private final NodeAccessor _accessor;
+
+    /*
+     * Holds either the root INode or a RDCSSDescriptor while a snapshot is taken.
+     */
+    private final AtomicReference<Object> _root;
+
+    /*
+     * A flag to mark a read-only snapshot.
+     */
+    private final boolean _isReadOnly;
+
+    /*
+     * The number of words in a read-only snapshot, or -1 until it is counted.
+     */
+    private volatile int _size;
+
+    /**
+     * Constructor. Creates an empty Trie.
+     */
+    public ConcurrentTrie() {
+        this(new INode(new Gen(), CNode.empty()), false);
+    }
+
+    /*
+     * Constructor used to create snapshots.
+     */
+    private ConcurrentTrie(final INode root, final boolean isReadOnly) {
+        assert (root != null) : "The parameter 'root' should not be null.";
+
+        this._accessor = new NodeAccessor();
+        this._root = new AtomicReference<>(root);
+        this._isReadOnly = isReadOnly;
+        this._size = -1;
+    }
+
+    /**
+     * Add a word to the Trie. Lock-free; may be called by many threads.
+     *
+     * @param word
+     *            A <code>String</code> instance. May not be null or empty.
+     */
+    @Override
+    public void add(final String word) {
+        ConcurrentTrie.validateWord(word);
+        this.checkWritable();
+
+        int result = RESTART;
+        while (result == RESTART) {
+            final INode root = this.readRoot(false);
+            result = this.insert(root, word, root._gen);
+        }
+    }
+
+    /**
+     * Adds many words to the Trie. The words are validated first and then added by a parallel stream; the Trie is
+     * lock-free, so the threads of the stream insert into it directly.
+     *
+     * @param words
+     *            The words to add. Must not be null and each word must not be null or empty.
+     */
+    @Override
+    public void addAll(final Collection<String> words) {
+        if (words == null) {
+            throw new IllegalArgumentException("words cannot be null");
+        }
+        for (final String word : words) {
+            ConcurrentTrie.validateWord(word);
+        }
+        this.checkWritable();
+
+        words.parallelStream().forEach(this::add);
+    }
+
+    /*
+     * Throws UnsupportedOperationException if this Trie is a read-only snapshot.
+     */
+    private void checkWritable() {
+        if (this._isReadOnly) {
+            throw new UnsupportedOperationException("A read-only snapshot cannot be modified");
+        }
+    }
+
+    /*
+     * Removes the entombed child from the parent. If the parent is left without words and may be entombed, then it is
+     * entombed as well and true is returned so the caller cleans the next parent.
+     */
+    private boolean cleanParent(final INode parent, final INode child, final char key, final Gen startGen,
+            final boolean canEntomb) {
+        while (true) {
+            final MainNode main = this.gcasRead(parent);
+            if (!(main instanceof CNode)) {
+                // the parent was entombed by another update.
+                return (false);
+            }
+
+            final CNode cn = (CNode) main;
+            final int index = cn.indexOf(key);
+            if (index < 0 || cn._children[index] != child || !(this.gcasRead(child) instanceof TNode)) {
+                // another update already cleaned the parent.
+                return (false);
+            }
+
+            final CNode removed = cn.removed(index);
+            final boolean isDead = canEntomb && !removed._isWord && removed._keys.length == 0;
+            if (this.gcas(parent, cn, isDead ? new TNode() : removed)) {
+                return (isDead);
+            }
+            if (this.readRoot(false)._gen != startGen) {
+                // a snapshot was taken; the tomb is cleaned by a later update.
+                return (false);
+            }
+        }
+    }
+
+    /**
+     * Used to clear and reset the Trie. The words are removed atomically.
+     */
+    @Override
+    public void clear() {
+        this.checkWritable();
+
+        boolean isCleared = false;
+        while (!isCleared) {
+            final INode root = this.readRoot(false);
+            final MainNode expectedMain = this.gcasRead(root);
+            isCleared = this.rdcssRoot(root, expectedMain, new INode(new Gen(), CNode.empty()));
+        }
+    }
+
+    /**
+     * Determines if a word is contained in the Trie. Lock-free; may be called by many threads.
+     *
+     * @param word
+     *            The word to find.
+     *
+     * @return A boolean value of true if it is found, otherwise it is false.
+     */
+    @Override
+    public boolean contains(final String word) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("word cannot be null or empty");
+        }
+
+        while (true) {
+            final INode root = this.readRoot(false);
+            final Boolean result = this.lookup(root, word, root._gen);
+            if (result != null) {
+                return (result);
+            }
+        }
+    }
+
+    /*
+     * Completes a GCAS. The change is committed if the generation of the root is still the generation of the INode,
+     * otherwise it is rolled back.
+     */
+    private MainNode gcasCommit(final INode in, final MainNode main) {
+        MainNode m = main;
+        while (true) {
+            final MainNode prev = m._prev;
+            final INode root = this.readRoot(true);
+            if (prev == null) {
+                return (m);
+            }
+
+            if (prev instanceof FailedNode) {
+                final MainNode previous = prev._prev;
+                if (in.casMain(m, previous)) {
+                    return (previous);
+                }
+                m = in._main;
+            } else if ((root._gen == in._gen) && !this._isReadOnly) {
+                if (m.casPrev(prev, null)) {
+                    return (m);
+                }
+            } else {
+                m.casPrev(prev, new FailedNode(prev));
+                m = in._main;
+            }
+        }
+    }
+
+    /*
+     * Replaces the main node of the INode if it is still the expected node and the generation has not changed.
+     */
+    private boolean gcas(final INode in, final MainNode expected, final MainNode value) {
+        value._prev = expected;
+        if (in.casMain(expected, value)) {
+            this.gcasCommit(in, value);
+            return (value._prev == null);
+        }
+        return (false);
+    }
+
+    /*
+     * Reads the committed main node of the INode.
+     */
+    private MainNode gcasRead(final INode in) {
+        final MainNode main = in._main;
+        if (main._prev == null) {
+            return (main);
+        }
+        return (this.gcasCommit(in, main));
+    }
+
+    /*
+     * Counts the words of the subtree of a read-only snapshot. The count of each branch node is kept in the node. A
+     * branch node is never changed, and the children of one that is reached through a read-only snapshot belong to an
+     * old generation that writers copy before they change it, so the count stays valid. Later snapshots share the nodes
+     * that were not changed, so only the branch nodes created since the last count are counted again. The recursion is
+     * no deeper than the longest word.
+     */
+    private int countWords(final MainNode main) {
+        assert (this._isReadOnly) : "Words are only counted on a read-only snapshot.";
+
+        if (!(main instanceof CNode)) {
+            return (0);
+        }
+
+        final CNode cn = (CNode) main;
+        int count = cn._wordCount;
+        if (count < 0) {
+            count = cn._isWord ? 1 : 0;
+            for (final INode child : cn._children) {
+                count += this.countWords(this.gcasRead(child));
+            }
+            cn._wordCount = count;
+        }
+        return (count);
+    }
+
+    /**
+     * Gets all of the words that were added. The words come from a read-only snapshot so the result is consistent.
+     *
+     * @return A <code>List</code> instance containing zero to many <code>String</code> instances.
+     */
+    @Override
+    public List<String> getWords() {
+        final ConcurrentTrie snapshot = this.readOnlySnapshot();
+        final List<String> words = new ArrayList<>(snapshot.size());
+        snapshot.stream().forEachOrdered(words::add);
+        return (words);
+    }
+
+    /**
+     * Gets words that are a close match to the prefix. The prefix is walked as far as it matches and the words below
+     * that point are returned. The words come from a read-only snapshot so the result is consistent.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>List</code> instance containing zero to many <code>String</code> instances.
+     */
+    @Override
+    public List<String> getWords(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        final ConcurrentTrie snapshot = this.readOnlySnapshot();
+        return (TrieSpliterator.getCloseWords(snapshot._accessor, snapshot.readRootMain(), prefix));
+    }
+
+    /**
+     * Counts the words that start with the prefix. The prefix is walked on a read-only snapshot and the count of the
+     * branch node below it is returned. Each branch node caches the count of its subtree the first time it is counted
+     * through a snapshot; an update copies the nodes on its path, and the copies start without a count, so only the
+     * branch nodes created since the last count are counted again. The words are not materialized.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return An integer value of 0 to n.
+     */
+    @Override
+    public int countWords(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        final ConcurrentTrie snapshot = this.readOnlySnapshot();
+        return (snapshot.countWords(snapshot._accessor.walk(snapshot.readRootMain(), prefix)));
+    }
+
+    /**
+     * Gets the only word that starts with the prefix. The prefix and the completion are walked on a read-only snapshot
+     * so the answer is consistent. The walk stops at the first node that has more than one word below it.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return The word if exactly one word starts with the prefix, otherwise null.
+     */
+    @Override
+    public String getUniqueWord(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        final ConcurrentTrie snapshot = this.readOnlySnapshot();
+        MainNode main = snapshot._accessor.walk(snapshot.readRootMain(), prefix);
+
+        // every node leads to a word, so the word is unique while the nodes have a single child.
+        final StringBuilder word = new StringBuilder(prefix);
+        while (true) {
+            if (!(main instanceof CNode)) {
+                return (null);
+            }
+
+            final CNode cn = (CNode) main;
+            if (cn._isWord) {
+                return (cn._keys.length == 0 ? word.toString() : null);
+            }
+            if (cn._keys.length != 1) {
+                return (null);
+            }
+            word.append(cn._keys[0]);
+            main = snapshot.gcasRead(cn._children[0]);
+        }
+    }
+
+    /**
+     * Gets the words that match a glob pattern. '?' matches any one character and '*' matches zero or more characters.
+     * The pattern is matched on a read-only snapshot and the branches that can not match are not visited.
+     *
+     * @param glob
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>List</code> instance containing zero to many <code>String</code> instances.
+     */
+    @Override
+    public List<String> match(final String glob) {
+        GlobPattern.validate(glob, MAX_WORD_LENGTH);
+
+        final ConcurrentTrie snapshot = this.readOnlySnapshot();
+        return (new GlobPattern(glob).match(snapshot._accessor, snapshot.readRootMain()));
+    }
+
+    /*
+     * Inserts the word starting at the INode. Returns RESTART if the operation lost a race.
+     */
+    private int insert(final INode start, final String word, final Gen startGen) {
+        INode parent = null;
+        INode in = start;
+        int position = 0;
+        while (true) {
+            final MainNode main = this.gcasRead(in);
+            if (main instanceof TNode) {
+                // the node was pruned by a remove; it is cut from its parent before starting again.
+                this.cleanParent(parent, in, word.charAt(position - 1), startGen, parent != start);
+                return (RESTART);
+            }
+
+            final CNode cn = (CNode) main;
+            if (position == word.length()) {
+                if (cn._isWord) {
+                    return (UNCHANGED);
+                }
+                return (this.gcas(in, cn, cn.withWord(true)) ? CHANGED : RESTART);
+            }
+
+            final int index = cn.indexOf(word.charAt(position));
+            if (index < 0) {
+                final INode branch = ConcurrentTrie.newBranch(word, position + 1, in._gen);
+                final CNode updated = cn.inserted(-(index + 1), word.charAt(position), branch);
+                return (this.gcas(in, cn, updated) ? CHANGED : RESTART);
+            }
+
+            final INode child = cn._children[index];
+            if (child._gen == startGen) {
+                parent = in;
+                in = child;
+                ++position;
+            } else if (!this.gcas(in, cn, cn.renewed(startGen, this))) {
+                // the child belongs to an older snapshot; it is copied before it is changed.
+                return (RESTART);
+            }
+        }
+    }
+
+    /**
+     * Determines if this Trie is a read-only snapshot.
+     *
+     * @return A boolean value of true if the Trie is read-only, otherwise it is false.
+     */
+    public boolean isReadOnly() {
+        return (this._isReadOnly);
+    }
+
+    /*
+     * Looks up the word starting at the INode. Returns null if the operation lost a race.
+     */
+    private Boolean lookup(final INode start, final String word, final Gen startGen) {
+        INode in = start;
+        int position = 0;
+        while (true) {
+            final MainNode main = this.gcasRead(in);
+            if (main instanceof TNode) {
+                return (Boolean.FALSE);
+            }
+
+            final CNode cn = (CNode) main;
+            if (position == word.length()) {
+                return (cn._isWord);
+            }
+
+            final int index = cn.indexOf(word.charAt(position));
+            if (index < 0) {
+                return (Boolean.FALSE);
+            }
+
+            final INode child = cn._children[index];
+            if (this._isReadOnly || child._gen == startGen) {
+                in = child;
+                ++position;
+            } else if (!this.gcas(in, cn, cn.renewed(startGen, this))) {
+                return (null);
+            }
+        }
+    }
+
+    /*
+     * Creates the chain of nodes for the characters of the word from the position onward.
+     */
+    private static INode newBranch(final String word, final int position, final Gen gen) {
+        MainNode main = new CNode(true, CNode.NO_KEYS, CNode.NO_CHILDREN);
+        for (int i = word.length() - 1; i >= position; --i) {
+            main = new CNode(false, new char[] { word.charAt(i) }, new INode[] { new INode(gen, main) });
+        }
+        return (new INode(gen, main));
+    }
+
+    /*
+     * Finishes a RDCSS on the root if one is in progress. If abort is true, then the RDCSS is rolled back.
+     */
+    private INode rdcssComplete(final boolean abort) {
+        while (true) {
+            final Object value = this._root.get();
+            if (value instanceof INode) {
+                return ((INode) value);
+            }
+
+            final RDCSSDescriptor descriptor = (RDCSSDescriptor) value;
+            if (abort) {
+                if (this._root.compareAndSet(descriptor, descriptor._old)) {
+                    return (descriptor._old);
+                }
+            } else {
+                final MainNode oldMain = this.gcasRead(descriptor._old);
+                if (oldMain == descriptor._expectedMain) {
+                    if (this._root.compareAndSet(descriptor, descriptor._new)) {
+                        descriptor._isCommitted = true;
+                        return (descriptor._new);
+                    }
+                } else if (this._root.compareAndSet(descriptor, descriptor._old)) {
+                    return (descriptor._old);
+                }
+            }
+        }
+    }
+
+    /*
+     * Replaces the root if it is still the old root and its main node is still the expected main node.
+     */
+    private boolean rdcssRoot(final INode old, final MainNode expectedMain, final INode newRoot) {
+        final RDCSSDescriptor descriptor = new RDCSSDescriptor(old, expectedMain, newRoot);
+        if (this._root.compareAndSet(old, descriptor)) {
+            this.rdcssComplete(false);
+            return (descriptor._isCommitted);
+        }
+        return (false);
+    }
+
+    /*
+     * Reads the root INode, completing or aborting a RDCSS that is in progress.
+     */
+    private INode readRoot(final boolean abort) {
+        final Object value = this._root.get();
+        if (value instanceof INode) {
+            return ((INode) value);
+        }
+        return (this.rdcssComplete(abort));
+    }
+
+    /*
+     * Reads the main node of the root.
+     */
+    private MainNode readRootMain() {
+        return (this.gcasRead(this.readRoot(false)));
+    }
+
+    /**
+     * Removes a word from the Trie. A node that is left without words is entombed and cut from its parent, and the
+     * pruning continues toward the root. Lock-free; may be called by many threads.
+     *
+     * @param word
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A boolean value of true if the word was removed, otherwise it is false if it was not contained.
+     */
+    @Override
+    public boolean remove(final String word) {
+        ConcurrentTrie.validateWord(word);
+        this.checkWritable();
+
+        final INode[] path = new INode[word.length() + 1];
+        int result = RESTART;
+        while (result == RESTART) {
+            final INode root = this.readRoot(false);
+            result = this.delete(root, word, root._gen, path);
+        }
+        return (result == CHANGED);
+    }
+
+    /*
+     * Removes the word starting at the INode. The INodes that are walked are kept in the path so the dead nodes can be
+     * pruned. Returns RESTART if the operation lost a race.
+     */
+    private int delete(final INode start, final String word, final Gen startGen, final INode[] path) {
+        INode in = start;
+        int position = 0;
+        while (true) {
+            path[position] = in;
+            final MainNode main = this.gcasRead(in);
+            if (main instanceof TNode) {
+                this.cleanParent(path[position - 1], in, word.charAt(position - 1), startGen, position > 1);
+                return (RESTART);
+            }
+
+            final CNode cn = (CNode) main;
+            if (position == word.length()) {
+                if (!cn._isWord) {
+                    return (UNCHANGED);
+                }
+
+                final boolean isDead = cn._keys.length == 0;
+                if (!this.gcas(in, cn, isDead ? new TNode() : cn.withWord(false))) {
+                    return (RESTART);
+                }
+
+                // the word is removed; the tombs are cut from their parents toward the root.
+                boolean isEntombed = isDead;
+                for (int i = position; isEntombed && i > 0; --i) {
+                    isEntombed = this.cleanParent(path[i - 1], path[i], word.charAt(i - 1), startGen, i > 1);
+                }
+                return (CHANGED);
+            }
+
+            final int index = cn.indexOf(word.charAt(position));
+            if (index < 0) {
+                return (UNCHANGED);
+            }
+
+            final INode child = cn._children[index];
+            if (child._gen == startGen) {
+                in = child;
+                ++position;
+            } else if (!this.gcas(in, cn, cn.renewed(startGen, this))) {
+                return (RESTART);
+            }
+        }
+    }
+
+    /**
+     * Creates a read-only snapshot of the Trie in O(1). The snapshot is not changed by later updates of this Trie and
+     * may be read by many threads. Calling a method that modifies the snapshot throws
+     * <code>UnsupportedOperationException</code>.
+     *
+     * @return A read-only <code>ConcurrentTrie</code> instance.
+     */
+    public ConcurrentTrie readOnlySnapshot() {
+        if (this._isReadOnly) {
+            return (this);
+        }
+
+        while (true) {
+            final INode root = this.readRoot(false);
+            final MainNode expectedMain = this.gcasRead(root);
+            if (this.rdcssRoot(root, expectedMain, root.copyToGen(new Gen(), this))) {
+                return (new ConcurrentTrie(root, true));
+            }
+        }
+    }
+
+    /**
+     * Creates a writable snapshot of the Trie in O(1). The snapshot and this Trie share their nodes until either one is
+     * changed.
+     *
+     * @return A <code>ConcurrentTrie</code> instance.
+     */
+    public ConcurrentTrie snapshot() {
+        if (this._isReadOnly) {
+            final INode root = this.readRoot(false);
+            return (new ConcurrentTrie(root.copyToGen(new Gen(), this), false));
+        }
+
+        while (true) {
+            final INode root = this.readRoot(false);
+            final MainNode expectedMain = this.gcasRead(root);
+            if (this.rdcssRoot(root, expectedMain, root.copyToGen(new Gen(), this))) {
+                return (new ConcurrentTrie(root.copyToGen(new Gen(), this), false));
+            }
+        }
+    }
+
+    /**
+     * Gets the number of words. A writable Trie does not keep a running count, because every update would contend on
+     * it; the words of a new read-only snapshot are counted instead. The count of each subtree is kept in its branch
+     * node, and the snapshots share the nodes that were not changed, so only the nodes changed since the last count are
+     * visited: O(changes x length of a word) rather than O(n). The count of a read-only snapshot is kept with it.
+     *
+     * @return An integer value of 0 to n.
+     */
+    @Override
+    public int size() {
+        final ConcurrentTrie snapshot = this.readOnlySnapshot();
+        int size = snapshot._size;
+        if (size < 0) {
+            size = snapshot.countWords(snapshot.readRootMain());
+            snapshot._size = size;
+        }
+        return (size);
+    }
+
+    /**
+     * Gets a <code>Stream</code> of all of the words. The words come from a read-only snapshot so the stream is
+     * consistent while the Trie is updated. The stream splits at child subtrees, so it may be used in parallel.
+     *
+     * @return A <code>Stream</code> instance of zero to many <code>String</code> instances.
+     */
+    @Override
+    public Stream<String> stream() {
+        final ConcurrentTrie snapshot = this.readOnlySnapshot();
+        return (TrieSpliterator.stream(snapshot._accessor, snapshot.readRootMain(), ""));
+    }
+
+    /**
+     * Gets a <code>Stream</code> of the words that start with the prefix. The words come from a read-only snapshot so
+     * the stream is consistent while the Trie is updated. The stream splits at child subtrees, so it may be used in
+     * parallel.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>Stream</code> instance of zero to many <code>String</code> instances.
+     */
+    @Override
+    public Stream<String> stream(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        final ConcurrentTrie snapshot = this.readOnlySnapshot();
+        return (TrieSpliterator.stream(snapshot._accessor, snapshot.readRootMain(), prefix));
+    }
+
+    /*
+     * Validates a word that is added to the Trie.
+     */
+    private static void validateWord(final String word) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("word cannot be null or empty");
+        }
+        if (word.length() > MAX_WORD_LENGTH) { // Enforce a reasonable max length
+            throw new IllegalArgumentException("word length exceeds maximum allowed (100 characters)");
+        }
+    }
+}
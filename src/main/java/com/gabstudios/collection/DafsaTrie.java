@@ -0,0 +1,539 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * A read-only Trie that is stored as a minimal deterministic acyclic finite state automaton (DAFSA). Words that end the
+ * same way share their suffix states as well as their prefix states, so a dictionary such as host names or file names
+ * needs far fewer nodes than a <code>LinkedHashMapTrie</code>. A DafsaTrie is created by a <code>Builder</code> from
+ * words in sorted order, using the incremental algorithm of Daciuk et al. ("Incremental Construction of Minimal Acyclic
+ * Finite-State Automata"): only the states of the last word are open and they are merged with an equal registered state
+ * as soon as the next word leaves them. A DafsaTrie may be read by many threads.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+public final class DafsaTrie implements Trie {
+
+    /**
+     * Builds a DafsaTrie from words that are added in sorted order.
+     *
+     * @author Gregory Brown (sysdevone)
+     */
+    public static final class Builder {
+
+        /*
+         * The registered states. A state is registered when no more words can be added below it; equal states are
+         * merged.
+         */
+        private final Map<State, State> _register;
+
+        /*
+         * The states of the last word that are still open, root first. The state at index i is the child of the state
+         * at index i - 1 for the character at index i - 1 of the last word.
+         */
+        private final List<State> _open;
+
+        /*
+         * The last word that was added.
+         */
+        private String _previous;
+
+        /*
+         * The number of nodes that a plain trie of the same words would have, including the root.
+         */
+        private int _trieNodeCount;
+
+        /*
+         * A flag that is true once build() was called.
+         */
+        private boolean _isBuilt;
+
+        /**
+         * Constructor.
+         */
+        public Builder() {
+            this._register = new HashMap<>();
+            this._open = new ArrayList<>();
+            this._open.add(new State());
+            this._previous = "";
+            this._trieNodeCount = 1;
+            this._isBuilt = false;
+        }
+
+        /**
+         * Adds a word. The words must be added in sorted order; a word that is equal to the last word is ignored.
+         *
+         * @param word
+         *            A <code>String</code> instance. May not be null or empty.
+         *
+         * @return The Builder instance. Used for chaining calls.
+         */
+        public Builder add(final String word) {
+            if (word == null || word.isEmpty()) {
+                throw new IllegalArgumentException("word cannot be null or empty");
+            }
+            if (word.length() > MAX_WORD_LENGTH) { // Enforce a reasonable max length
+                throw new IllegalArgumentException("word length exceeds maximum allowed (100 characters)");
+            }
+            if (this._isBuilt) {
+                throw new IllegalStateException("The DafsaTrie was already built");
+            }
+
+            final int order = word.compareTo(this._previous);
+            if (order < 0) {
+                throw new IllegalArgumentException(
+                        "The word '" + word + "' is not in sorted order after '" + this._previous + "'");
+            }
+            if (order == 0) {
+                return (this);
+            }
+
+            int common = 0;
+            final int limit = Math.min(word.length(), this._previous.length());
+            while (common < limit && word.charAt(common) == this._previous.charAt(common)) {
+                ++common;
+            }
+
+            // the states below the common prefix can not change any more.
+            this.minimize(common);
+
+            State state = this._open.get(common);
+            for (int i = common; i < word.length(); ++i) {
+                final State child = new State();
+                state.addChild(word.charAt(i), child);
+                this._open.add(child);
+                state = child;
+            }
+            state._isWord = true;
+
+            this._trieNodeCount += word.length() - common;
+            this._previous = word;
+            return (this);
+        }
+
+        /**
+         * Creates the DafsaTrie. The Builder can not be used after this call.
+         *
+         * @return A <code>DafsaTrie</code> instance.
+         */
+        public DafsaTrie build() {
+            if (this._isBuilt) {
+                throw new IllegalStateException("The DafsaTrie was already built");
+            }
+            this._isBuilt = true;
+
+            this.minimize(0);
+            final State root = this._open.get(0);
+            root.freeze();
+            return (new DafsaTrie(root, this._register.size() + 1, this._trieNodeCount));
+        }
+
+        /*
+         * Closes the open states deeper than the depth. Each one is replaced by an equal registered state or is
+         * registered itself.
+         */
+        private void minimize(final int depth) {
+            for (int i = this._open.size() - 1; i > depth; --i) {
+                final State state = this._open.remove(i);
+                state.freeze();
+                final State registered = this._register.putIfAbsent(state, state);
+                if (registered != null) {
+                    this._open.get(i - 1).replaceLastChild(registered);
+                }
+            }
+        }
+    }
+
+    /*
+     * A state of the automaton. A state is changed only while it is open in the Builder and is immutable once it is
+     * frozen. Frozen states are compared by their word flag and their transitions to identical children.
+     */
+    private static final class State {
+        private static final char[] NO_KEYS = new char[0];
+        private static final State[] NO_CHILDREN = new State[0];
+
+        private boolean _isWord;
+        private char[] _keys;
+        private State[] _children;
+        private int _childCount;
+        private int _wordCount;
+        private int _hash;
+
+        private State() {
+            this._isWord = false;
+            this._keys = NO_KEYS;
+            this._children = NO_CHILDREN;
+            this._childCount = 0;
+            this._wordCount = 0;
+            this._hash = 0;
+        }
+
+        /*
+         * Adds a transition. The keys are added in sorted order so the new key is the largest.
+         */
+        private void addChild(final char key, final State child) {
+            if (this._childCount == this._keys.length) {
+                final int capacity = Math.max(2, this._childCount * 2);
+                this._keys = Arrays.copyOf(this._keys, capacity);
+                this._children = Arrays.copyOf(this._children, capacity);
+            }
+            this._keys[this._childCount] = key;
+            this._children[this._childCount] = child;
+            ++this._childCount;
+        }
+
+        private void replaceLastChild(final State child) {
+            this._children[this._childCount - 1] = child;
+        }
+
+        /*
+         * Trims the transitions and calculates the word count and hash. The children are already frozen.
+         */
+        private void freeze() {
+            this._keys = Arrays.copyOf(this._keys, this._childCount);
+            this._children = Arrays.copyOf(this._children, this._childCount);
+
+            int wordCount = this._isWord ? 1 : 0;
+            int hash = this._isWord ? 1 : 0;
+            for (int i = 0; i < this._childCount; ++i) {
+                wordCount += this._children[i]._wordCount;
+                hash = (31 * hash) + this._keys[i];
+                hash = (31 * hash) + System.identityHashCode(this._children[i]);
+            }
+            this._wordCount = wordCount;
+            this._hash = hash;
+        }
+
+        private State getChild(final char key) {
+            final int index = Arrays.binarySearch(this._keys, key);
+            return (index < 0 ? null : this._children[index]);
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return (true);
+            }
+            if (!(object instanceof State)) {
+                return (false);
+            }
+
+            final State other = (State) object;
+            if (this._isWord != other._isWord || this._hash != other._hash || !Arrays.equals(this._keys, other._keys)) {
+                return (false);
+            }
+            for (int i = 0; i < this._childCount; ++i) {
+                if (this._children[i] != other._children[i]) {
+                    return (false);
+                }
+            }
+            return (true);
+        }
+
+        @Override
+        public int hashCode() {
+            return (this._hash);
+        }
+    }
+
+    /*
+     * Reads the states for the shared walks. The states are frozen, so the words that are walked are a fixed set.
+     */
+    private static final class StateAccessor implements TrieNodeAccessor<State> {
+
+        @Override
+        public State findChild(final State state, final int key) {
+            return (state.getChild((char) key));
+        }
+
+        @Override
+        public State getChild(final State state, final int index, final State next) {
+            return (state._children[index]);
+        }
+
+        @Override
+        public int getChildCount(final State state) {
+            return (state._childCount);
+        }
+
+        @Override
+        public int getKey(final State state, final int index, final State child) {
+            return (state._keys[index]);
+        }
+
+        @Override
+        public int getWordCount(final State state) {
+            return (state._wordCount);
+        }
+
+        @Override
+        public boolean isImmutable() {
+            return (true);
+        }
+
+        @Override
+        public boolean isWord(final State state) {
+            return (state._isWord);
+        }
+    }
+
+    /*
+     * Reads the states for the shared walks.
+     */
+    private static final StateAccessor ACCESSOR = new StateAccessor();
+
+    /*
+     * A reasonable max length for a word in the Trie.
+     */
+    private static final int MAX_WORD_LENGTH = 100;
+
+    /*
+     * The start state.
+     */
+    private final State _root;
+
+    /*
+     * The number of states, including the root.
+     */
+    private final int _nodeCount;
+
+    /*
+     * The number of nodes that a plain trie of the same words would have, including the root.
+     */
+    private final int _trieNodeCount;
+
+    /*
+     * Constructor used by the Builder.
+     */
+    private DafsaTrie(final State root, final int nodeCount, final int trieNodeCount) {
+        assert (root != null) : "The parameter 'root' should not be null.";
+
+        this._root = root;
+        this._nodeCount = nodeCount;
+        this._trieNodeCount = trieNodeCount;
+    }
+
+    /**
+     * Not supported. A DafsaTrie is read-only.
+     *
+     * @param word
+     *            Not used.
+     */
+    @Override
+    public void add(final String word) {
+        throw new UnsupportedOperationException("A DafsaTrie is read-only");
+    }
+
+    /**
+     * Not supported. A DafsaTrie is read-only.
+     *
+     * @param words
+     *            Not used.
+     */
+    @Override
+    public void addAll(final Collection<String> words) {
+        throw new UnsupportedOperationException("A DafsaTrie is read-only");
+    }
+
+    /**
+     * Not supported. A DafsaTrie is read-only.
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("A DafsaTrie is read-only");
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.gabstudios.collection.Trie#contains(java.lang.String)
+     */
+    @Override
+    public boolean contains(final String word) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("word cannot be null or empty");
+        }
+
+        final State state = ACCESSOR.walk(this._root, word);
+        return (state != null && state._isWord);
+    }
+
+    /**
+     * Gets the number of states in the automaton, including the root.
+     *
+     * @return An integer value from 1 to n.
+     */
+    public int getNodeCount() {
+        return (this._nodeCount);
+    }
+
+    /**
+     * Gets the number of nodes that a plain trie of the same words would have, including the root. Compare this with
+     * getNodeCount() to see how many nodes were saved by sharing suffixes.
+     *
+     * @return An integer value from 1 to n.
+     */
+    public int getTrieNodeCount() {
+        return (this._trieNodeCount);
+    }
+
+    /**
+     * Gets all of the words in sorted order.
+     *
+     * @return A <code>List</code> instance containing zero to many <code>String</code> instances.
+     */
+    @Override
+    public List<String> getWords() {
+        final List<String> words = new ArrayList<>(this._root._wordCount);
+        this.stream().forEachOrdered(words::add);
+        return (words);
+    }
+
+    /**
+     * Gets words that are a close match to the prefix. The prefix is walked as far as it matches and the words below
+     * that point are returned in sorted order.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>List</code> instance containing zero to many <code>String</code> instances.
+     */
+    @Override
+    public List<String> getWords(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        return (TrieSpliterator.getCloseWords(ACCESSOR, this._root, prefix));
+    }
+
+    /**
+     * Counts the words that start with the prefix in O(length of the prefix). The count is kept in every state.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return An integer value of 0 to n.
+     */
+    @Override
+    public int countWords(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        final State state = ACCESSOR.walk(this._root, prefix);
+        return (state == null ? 0 : state._wordCount);
+    }
+
+    /**
+     * Gets the only word that starts with the prefix. The word count of the state at the end of the prefix tells if the
+     * word is unique, so nothing is enumerated.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return The word if exactly one word starts with the prefix, otherwise null.
+     */
+    @Override
+    public String getUniqueWord(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        State state = ACCESSOR.walk(this._root, prefix);
+        if (state == null || state._wordCount != 1) {
+            return (null);
+        }
+
+        // a state with a single word below it is either the word or has a single transition.
+        final StringBuilder word = new StringBuilder(prefix);
+        while (!state._isWord) {
+            word.append(state._keys[0]);
+            state = state._children[0];
+        }
+        return (word.toString());
+    }
+
+    /**
+     * Gets the words that match a glob pattern, in sorted order. '?' matches any one character and '*' matches zero or
+     * more characters. The branches that can not match are not visited.
+     *
+     * @param glob
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>List</code> instance containing zero to many <code>String</code> instances.
+     */
+    @Override
+    public List<String> match(final String glob) {
+        GlobPattern.validate(glob, MAX_WORD_LENGTH);
+
+        return (new GlobPattern(glob).match(ACCESSOR, this._root));
+    }
+
+    /**
+     * Not supported. A DafsaTrie is read-only.
+     *
+     * @param word
+     *            Not used.
+     *
+     * @return Does not return.
+     */
+    @Override
+    public boolean remove(final String word) {
+        throw new UnsupportedOperationException("A DafsaTrie is read-only");
+    }
+
+    /**
+     * Gets the number of words. The count is kept in every state so this is O(1).
+     *
+     * @return An integer value of 0 to n.
+     */
+    @Override
+    public int size() {
+        return (this._root._wordCount);
+    }
+
+    /**
+     * Gets a <code>Stream</code> of all of the words in sorted order. The stream may be used in parallel.
+     *
+     * @return A <code>Stream</code> instance of zero to many <code>String</code> instances.
+     */
+    @Override
+    public Stream<String> stream() {
+        return (TrieSpliterator.stream(ACCESSOR, this._root, ""));
+    }
+
+    /**
+     * Gets a <code>Stream</code> of the words that start with the prefix, in sorted order. The stream may be used in
+     * parallel.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>Stream</code> instance of zero to many <code>String</code> instances.
+     */
+    @Override
+    public Stream<String> stream(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        return (TrieSpliterator.stream(ACCESSOR, this._root, prefix));
+    }
+}
@@ -0,0 +1,236 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A glob pattern that is matched one character at a time while a Trie is walked. '?' matches any one character and '*'
+ * matches zero or more characters; every other character matches itself. The state of a match is the set of pattern
+ * positions that are reachable after the characters seen so far. A Trie walk stops below a node when the set is empty,
+ * so only the branches that can still match are visited.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+final class GlobPattern {
+
+    /*
+     * A node of the walk with the keys from the root to it and the states of the pattern after those keys.
+     */
+    private static final class Frame<N> {
+        private final N _node;
+        private final String _path;
+        private final BitSet _states;
+
+        private Frame(final N node, final String path, final BitSet states) {
+            this._node = node;
+            this._path = path;
+            this._states = states;
+        }
+    }
+
+    /*
+     * Matches any one character.
+     */
+    static final char ANY_CHARACTER = '?';
+
+    /*
+     * Matches zero or more characters.
+     */
+    static final char ANY_SEQUENCE = '*';
+
+    /*
+     * The glob.
+     */
+    private final String _glob;
+
+    /**
+     * Constructor.
+     *
+     * @param glob
+     *            The glob pattern. Must not be null.
+     */
+    GlobPattern(final String glob) {
+        assert (glob != null) : "The parameter 'glob' should not be null.";
+
+        this._glob = glob;
+    }
+
+    /*
+     * Adds the positions that are reachable by skipping '*' characters.
+     */
+    private BitSet close(final BitSet states) {
+        final int length = this._glob.length();
+        for (int i = states.nextSetBit(0); i >= 0 && i < length; i = states.nextSetBit(i + 1)) {
+            if (this._glob.charAt(i) == ANY_SEQUENCE) {
+                states.set(i + 1);
+            }
+        }
+        return (states);
+    }
+
+    /**
+     * Determines if the states are the end of a match.
+     *
+     * @param states
+     *            The states after the last character of a word.
+     *
+     * @return A boolean value of true if the word matches, otherwise it is false.
+     */
+    boolean isMatch(final BitSet states) {
+        return (states.get(this._glob.length()));
+    }
+
+    /**
+     * Walks a Trie depth first with the states of the pattern and gets the words that match, in the order of the Trie.
+     * A branch is not visited when no state is left.
+     *
+     * @param accessor
+     *            Reads the nodes of the Trie.
+     * @param root
+     *            The root of the Trie.
+     *
+     * @return A <code>List</code> instance containing zero to many <code>String</code> instances.
+     */
+    <N> List<String> match(final TrieNodeAccessor<N> accessor, final N root) {
+        final List<String> words = new ArrayList<>();
+        final ArrayDeque<Frame<N>> stack = new ArrayDeque<>();
+        stack.push(new Frame<>(root, "", this.start()));
+
+        while (!stack.isEmpty()) {
+            final Frame<N> frame = stack.pop();
+            final N node = frame._node;
+            if (accessor.isWord(node) && this.isMatch(frame._states)) {
+                words.add(accessor.getWord(node, frame._path));
+            }
+
+            N next = null;
+            for (int i = accessor.getChildCount(node) - 1; i >= 0; --i) {
+                final N child = accessor.getChild(node, i, next);
+                final int key = accessor.getKey(node, i, child);
+                final BitSet childStates = accessor.step(this, frame._states, key);
+                if (!childStates.isEmpty()) {
+                    stack.push(new Frame<>(child, accessor.appendKey(frame._path, key), childStates));
+                }
+                next = child;
+            }
+        }
+        return (words);
+    }
+
+    /**
+     * Determines if the glob starts with '*' and ends with a literal character or '?'. Such a pattern is matched faster
+     * against the reversed words, because the walk is pruned from the first character.
+     *
+     * @return A boolean value of true if the pattern is a suffix pattern, otherwise it is false.
+     */
+    boolean isSuffixPattern() {
+        return (this._glob.charAt(0) == ANY_SEQUENCE && this._glob.charAt(this._glob.length() - 1) != ANY_SEQUENCE);
+    }
+
+    /**
+     * Creates the pattern that matches the reversed words.
+     *
+     * @return A <code>GlobPattern</code> instance.
+     */
+    GlobPattern reversed() {
+        return (new GlobPattern(new StringBuilder(this._glob).reverse().toString()));
+    }
+
+    /**
+     * Gets the states before the first character of a word.
+     *
+     * @return A <code>BitSet</code> instance.
+     */
+    BitSet start() {
+        final BitSet states = new BitSet(this._glob.length() + 1);
+        states.set(0);
+        return (this.close(states));
+    }
+
+    /**
+     * Gets the states after one more character. An empty set means that no word below this point can match.
+     *
+     * @param states
+     *            The current states. Not changed.
+     * @param character
+     *            The next character of the word.
+     *
+     * @return A <code>BitSet</code> instance.
+     */
+    BitSet step(final BitSet states, final char character) {
+        final int length = this._glob.length();
+        final BitSet next = new BitSet(length + 1);
+        for (int i = states.nextSetBit(0); i >= 0 && i < length; i = states.nextSetBit(i + 1)) {
+            final char globCharacter = this._glob.charAt(i);
+            if (globCharacter == ANY_SEQUENCE) {
+                next.set(i);
+            } else if (globCharacter == ANY_CHARACTER || globCharacter == character) {
+                next.set(i + 1);
+            }
+        }
+        return (this.close(next));
+    }
+
+    /**
+     * Gets the states after one more code point. A supplementary character of the glob is matched as a single code
+     * point, and '?' matches a whole code point, so a surrogate pair is never split.
+     *
+     * @param states
+     *            The current states. Not changed.
+     * @param codePoint
+     *            The next code point of the word.
+     *
+     * @return A <code>BitSet</code> instance.
+     */
+    BitSet stepCodePoint(final BitSet states, final int codePoint) {
+        final int length = this._glob.length();
+        final BitSet next = new BitSet(length + 1);
+        for (int i = states.nextSetBit(0); i >= 0 && i < length; i = states.nextSetBit(i + 1)) {
+            final int globCodePoint = this._glob.codePointAt(i);
+            if (globCodePoint == ANY_SEQUENCE) {
+                next.set(i);
+            } else if (globCodePoint == ANY_CHARACTER || globCodePoint == codePoint) {
+                next.set(i + Character.charCount(globCodePoint));
+            }
+        }
+        return (this.close(next));
+    }
+
+    /**
+     * Validates a glob parameter.
+     *
+     * @param glob
+     *            The glob to validate.
+     * @param maxLength
+     *            The maximum length of the glob.
+     */
+    static void validate(final String glob, final int maxLength) {
+        if (glob == null || glob.isEmpty()) {
+            throw new IllegalArgumentException("glob cannot be null or empty");
+        }
+        if (glob.length() > maxLength) { // Enforce a reasonable max length
+            throw new IllegalArgumentException("glob length exceeds maximum allowed (" + maxLength + " characters)");
+        }
+    }
+}
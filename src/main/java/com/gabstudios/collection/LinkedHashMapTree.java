@@ -19,15 +19,28 @@
 
 package com.gabstudios.collection;
 
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 
 /**
  * This is a Tree data structure that holds a value. The value may be null. A node can have 1 to many children.
  * Duplicate siblings with the same value are not allowed. The order of when a child is added is maintained. A tree may
- * hold onto multiple nodes with the same data. A Node uses a hashmap to hold its children so the search is O(1).
+ * hold onto multiple nodes with the same data. A Node links its children in the order they were added and finds a child
+ * by scanning them while it has few children, so a leaf or a node of low fan-out holds no map. Once a node has more
+ * than Node.INDEX_THRESHOLD children it also indexes them in a hashmap so the search is O(1).
  *
  * @author Gregory Brown (sysdevone)
  *
@@ -45,21 +58,56 @@ public class LinkedHashMapTree<T> {
      *            This defines the class type of the data.
      */
     public static class Node<T> {
+        /**
+         * The number of children above which a node indexes its children in a hashmap. A node with this many children
+         * or fewer finds a child by scanning its sibling links.
+         */
+        public static final int INDEX_THRESHOLD = 8;
+
+        /*
+         * The number of children of this node.
+         */
+        private int _childCount;
+
         /*
-         * Holds the child nodes of this node. Will not hold a duplicate child.
+         * Indexes the children by their data once there are more than INDEX_THRESHOLD of them, otherwise null. The
+         * order of the children is kept by the sibling links, not by the index. Will not hold a duplicate child.
          */
-        private final java.util.LinkedHashMap<T, Node<T>> _children;
+        private HashMap<T, Node<T>> _childIndex;
 
         /*
          * The data held in this node. May be null.
          */
         private final T _data;
 
+        /*
+         * The first and last children, in the order they were added. The children are also linked through their
+         * siblings so that a traversal can move through the tree without an iterator per node.
+         */
+        private Node<T> _firstChild;
+        private Node<T> _lastChild;
+
+        /*
+         * The next and previous children of the parent. Null at either end.
+         */
+        private Node<T> _nextSibling;
+        private Node<T> _previousSibling;
+
+        /*
+         * The height of the subtree of this node. A leaf has a height of 0.
+         */
+        private int _height;
+
         /*
          * The parent node to this node. May be null if this node is the root.
          */
         private Node<T> _parent;
 
+        /*
+         * The number of nodes in the subtree of this node, including this node.
+         */
+        private int _subtreeSize;
+
         /*
          * The tree that this node belongs too.
          */
@@ -79,7 +127,8 @@ public class LinkedHashMapTree<T> {
 
             this._tree = tree;
             this._data = data;
-            this._children = new java.util.LinkedHashMap<>();
+            this._height = 0;
+            this._subtreeSize = 1;
         }
 
         /**
@@ -92,14 +141,179 @@ public class LinkedHashMapTree<T> {
          *         is returned.
          */
         public Node<T> addChild(final T data) {
+            return (this.addChild(data, null));
+        }
+
+        /*
+         * Adds a child and updates the subtree size and height of this node and its ancestors, stopping before the
+         * boundary node. A bulk build passes the node that it owns as the boundary so that threads that build different
+         * subtrees never update the same node; the boundary is then updated by updateSubtree() once its children are
+         * built. A boundary of null updates up to the root.
+         */
+        Node<T> addChild(final T data, final Node<T> boundary) {
             if (data == null)
                 throw new IllegalArgumentException("data cannot be null");
 
             Node<T> node = null;
-            if (!this.containsChild(data)) {
-                node = this._tree.createNode(data);
-                node.setParent(this);
-                this._children.put(node.getData(), node);
+            if (this.findChild(data) == null) {
+                node = this.linkChild(data);
+
+                // the new leaf adds one node and may make each ancestor
+                // taller.
+                this.updateAncestors(1, 1, boundary);
+            }
+            return (node);
+        }
+
+        /**
+         * Adds the nodes of a path below this node that do not exist yet. Each level is looked up once, and the nodes
+         * that are added are counted into the size and height of the ancestors in one pass.
+         *
+         * @param path
+         *            The data of each node from the child of this node down. May not be null or hold null.
+         *
+         * @return The <code>Node</code> instance at the end of the path, or this node if the path is empty.
+         */
+        public Node<T> addPath(final Iterable<? extends T> path) {
+            if (path == null)
+                throw new IllegalArgumentException("path cannot be null");
+            return (this.addPath(path.iterator()));
+        }
+
+        /**
+         * Adds the nodes of a path below this node that do not exist yet. Each level is looked up once, and the nodes
+         * that are added are counted into the size and height of the ancestors in one pass.
+         *
+         * @param path
+         *            The data of each node from the child of this node down. May not be null or hold null.
+         *
+         * @return The <code>Node</code> instance at the end of the path, or this node if the path is empty.
+         */
+        @SafeVarargs
+        public final Node<T> addPath(final T... path) {
+            if (path == null)
+                throw new IllegalArgumentException("path cannot be null");
+
+            Node<T> node = this;
+            int i = 0;
+            for (; i < path.length; ++i) {
+                if (path[i] == null)
+                    throw new IllegalArgumentException("path cannot hold null");
+                final Node<T> child = node.findChild(path[i]);
+                if (child == null) {
+                    break;
+                }
+                node = child;
+            }
+            if (i == path.length) {
+                return (node);
+            }
+
+            final Node<T> first = this._tree.createNode(path[i]);
+            Node<T> leaf = first;
+            for (++i; i < path.length; ++i) {
+                if (path[i] == null)
+                    throw new IllegalArgumentException("path cannot hold null");
+                leaf = leaf.linkChild(path[i]);
+            }
+            return (node.attachBranch(first, leaf));
+        }
+
+        /*
+         * Follows the path while its nodes exist, then adds the rest as a new branch.
+         */
+        private Node<T> addPath(final Iterator<? extends T> path) {
+            Node<T> node = this;
+            while (path.hasNext()) {
+                final T data = path.next();
+                if (data == null)
+                    throw new IllegalArgumentException("path cannot hold null");
+                final Node<T> child = node.findChild(data);
+                if (child == null) {
+                    return (node.addBranch(data, path));
+                }
+                node = child;
+            }
+            return (node);
+        }
+
+        /*
+         * Adds a chain of new nodes below this node. The chain is built below its first node before that node is
+         * linked, so a null part way down the path leaves the tree unchanged.
+         */
+        Node<T> addBranch(final T data, final Iterator<? extends T> rest) {
+            final Node<T> first = this._tree.createNode(data);
+            Node<T> leaf = first;
+            while (rest.hasNext()) {
+                final T next = rest.next();
+                if (next == null)
+                    throw new IllegalArgumentException("path cannot hold null");
+                leaf = leaf.linkChild(next);
+            }
+            return (this.attachBranch(first, leaf));
+        }
+
+        /*
+         * Links a chain of new nodes below this node. The chain is sized from its leaf up and its nodes are added to
+         * the ancestors of this node once, so the ancestors are not walked for every node.
+         */
+        private Node<T> attachBranch(final Node<T> first, final Node<T> leaf) {
+            for (Node<T> node = leaf._parent; node != null; node = node._parent) {
+                node._subtreeSize = node._lastChild._subtreeSize + 1;
+                node._height = node._lastChild._height + 1;
+            }
+            this.attachChild(first);
+            this.updateAncestors(first._subtreeSize, first._height + 1, null);
+            return (leaf);
+        }
+
+        /**
+         * Finds the node at the end of a path below this node.
+         *
+         * @param path
+         *            The data of each node from the child of this node down. May not be null or hold null.
+         *
+         * @return The <code>Node</code> instance at the end of the path, this node if the path is empty, or null if the
+         *         path does not exist.
+         */
+        public Node<T> findPath(final Iterable<? extends T> path) {
+            if (path == null)
+                throw new IllegalArgumentException("path cannot be null");
+
+            Node<T> node = this;
+            for (final T data : path) {
+                if (data == null)
+                    throw new IllegalArgumentException("path cannot hold null");
+                node = node.findChild(data);
+                if (node == null) {
+                    break;
+                }
+            }
+            return (node);
+        }
+
+        /**
+         * Finds the node at the end of a path below this node.
+         *
+         * @param path
+         *            The data of each node from the child of this node down. May not be null or hold null.
+         *
+         * @return The <code>Node</code> instance at the end of the path, this node if the path is empty, or null if the
+         *         path does not exist.
+         */
+        @SafeVarargs
+        public final Node<T> findPath(final T... path) {
+            if (path == null)
+                throw new IllegalArgumentException("path cannot be null");
+
+            Node<T> node = this;
+            for (int i = 0; i < path.length; ++i) {
+                if (path[i] == null)
+                    throw new IllegalArgumentException("path cannot hold null");
+                node = node.findChild(path[i]);
+                if (node == null) {
+                    break;
+                }
             }
             return (node);
         }
@@ -115,7 +329,7 @@ public class LinkedHashMapTree<T> {
         public boolean containsChild(final T data) {
             if (data == null)
                 throw new IllegalArgumentException("data cannot be null");
-            return (this._children.containsKey(data));
+            return (this.findChild(data) != null);
         }
 
         /**
@@ -129,39 +343,42 @@ public class LinkedHashMapTree<T> {
         public Node<T> getChild(final T data) {
             if (data == null)
                 throw new IllegalArgumentException("data cannot be null");
-            return (this._children.get(data));
+            return (this.findChild(data));
         }
 
-        /*
-         * Gets the count count from this node down.
+        /**
+         * Gets the number of children of this node.
+         *
          * @return An integer number of 0 to n.
          */
-        private int getChildCount() {
-            int count = 0;
-
-            if (this.isLeaf()) {
-                count = 0;
-            } else {
-                count = this.getChildren().size();
-                final List<Node<T>> childNodes = this.getChildren();
-                for (final Node<T> childNode : childNodes) {
-                    count += childNode.getChildCount();
-                }
-            }
-            return (count);
+        public int getChildCount() {
+            return (this._childCount);
         }
 
         /**
-         * Gets the children added to this node.
+         * Gets the children added to this node. The children are copied into a new list; use getChildrenView() to read
+         * them without a copy.
          *
          * @return A <code>List</code> instance containing 0 to n <code>Node</code> instances.
          */
         public List<Node<T>> getChildren() {
-            final Collection<Node<T>> childNodes = this._children.values();
-            final List<Node<T>> children = new ArrayList<>(childNodes);
+            final List<Node<T>> children = new ArrayList<>(this._childCount);
+            for (Node<T> child = this._firstChild; child != null; child = child._nextSibling) {
+                children.add(child);
+            }
             return (children);
         }
 
+        /**
+         * Gets a read-only view of the children of this node, in the order they were added. The children are not
+         * copied, so the view follows later changes to the node and must not be iterated while the node is changed.
+         *
+         * @return A <code>Collection</code> instance containing 0 to n <code>Node</code> instances.
+         */
+        public Collection<Node<T>> getChildrenView() {
+            return (Collections.unmodifiableCollection(new ChildrenView<>(this)));
+        }
+
         /**
          * Gets the data bound to the node.
          *
@@ -172,26 +389,28 @@ public class LinkedHashMapTree<T> {
         }
 
         /*
-         * Gets the height of the tree based on this node. Uses recursion.
+         * Gets the last child, or null if this node has no children. Used with getPreviousSibling() to read the
+         * children from the last to the first without a copy.
          */
-        private int getHeight() {
-            int height = 0;
+        Node<T> getLastChild() {
+            return (this._lastChild);
+        }
 
-            if (this.isLeaf()) {
-                height = 0;
-            } else {
-                int maxHeight = 0;
-                final List<Node<T>> childNodes = this.getChildren();
-                for (final Node<T> childNode : childNodes) {
-                    height = 1 + childNode.getHeight();
-                    if (height > maxHeight) {
-                        maxHeight = height;
-                    }
-                }
-                height = maxHeight;
-            }
-            return (height);
+        /*
+         * Gets the previous child of the parent, or null if this node is the first child.
+         */
+        Node<T> getPreviousSibling() {
+            return (this._previousSibling);
+        }
 
+        /**
+         * Gets the height of the subtree of this node. The height is kept as children are added and removed, so this is
+         * O(1).
+         *
+         * @return An integer of 0 to n. A leaf has a height of 0.
+         */
+        public int getHeight() {
+            return (this._height);
         }
 
         /*
@@ -199,17 +418,119 @@ public class LinkedHashMapTree<T> {
          */
         List<T> getLeafData(final List<T> data) {
             assert (data != null) : "Not able to get Leaf Node.  The parameter 'data' should not be null.";
-            if (this.isLeaf()) {
-                data.add(this._data);
-            } else {
-                final List<Node<T>> childNodes = this.getChildren();
-                for (final Node<T> childNode : childNodes) {
-                    childNode.getLeafData(data);
+            for (Node<T> node = this; node != null; node = node.nextPreOrder(this)) {
+                if (node.isLeaf()) {
+                    data.add(node._data);
                 }
             }
             return (data);
         }
 
+        /**
+         * Gets an iterator over the subtree of this node in breadth-first order: this node, then its children, then
+         * their children, each level in the order the children were added. The pending nodes are held in an
+         * array-backed queue. The tree must not be changed while the iterator is in use.
+         *
+         * @return An <code>Iterator</code> instance.
+         */
+        public Iterator<Node<T>> breadthFirstIterator() {
+            return (new BreadthFirstIterator<>(this));
+        }
+
+        /*
+         * Gets the first node of the post-order traversal of the subtree: the deepest first descendant.
+         */
+        private Node<T> firstPostOrder() {
+            Node<T> node = this;
+            while (node._firstChild != null) {
+                node = node._firstChild;
+            }
+            return (node);
+        }
+
+        /*
+         * Gets the next node of the pre-order traversal of the subtree of start, or null at the end. The traversal
+         * follows the first child, sibling and parent links, so it needs no stack and allocates nothing.
+         */
+        private Node<T> nextPreOrder(final Node<T> start) {
+            if (this._firstChild != null) {
+                return (this._firstChild);
+            }
+            Node<T> node = this;
+            while (node != start && node._nextSibling == null) {
+                node = node._parent;
+            }
+            return (node == start ? null : node._nextSibling);
+        }
+
+        /*
+         * Gets the next node of the post-order traversal of the subtree of start, or null at the end.
+         */
+        private Node<T> nextPostOrder(final Node<T> start) {
+            if (this == start) {
+                return (null);
+            }
+            return (this._nextSibling != null ? this._nextSibling.firstPostOrder() : this._parent);
+        }
+
+        /**
+         * Gets an iterator over the subtree of this node in post-order: the children, in the order they were added,
+         * before their parent. The iterator follows the parent and sibling links of the nodes, so it works on a tree of
+         * any depth and does not allocate per node. The tree must not be changed while the iterator is in use.
+         *
+         * @return An <code>Iterator</code> instance.
+         */
+        public Iterator<Node<T>> postOrderIterator() {
+            return (new PostOrderIterator<>(this));
+        }
+
+        /**
+         * Gets an iterator over the subtree of this node in pre-order: each node before its children, in the order the
+         * children were added. The iterator follows the parent and sibling links of the nodes, so it works on a tree of
+         * any depth and does not allocate per node. The tree must not be changed while the iterator is in use.
+         *
+         * @return An <code>Iterator</code> instance.
+         */
+        public Iterator<Node<T>> preOrderIterator() {
+            return (new PreOrderIterator<>(this));
+        }
+
+        /**
+         * Visits the subtree of this node in pre-order. The walk stops as soon as the visitor returns false. The depth
+         * passed to the visitor is relative to this node, which has a depth of 0. The tree must not be changed during
+         * the walk.
+         *
+         * @param visitor
+         *            A <code>TreeVisitor</code> instance. May not be null.
+         *
+         * @return A boolean value of true if every node was visited, otherwise it is false if the visitor stopped the
+         *         walk.
+         */
+        public boolean walk(final TreeVisitor<T> visitor) {
+            if (visitor == null)
+                throw new IllegalArgumentException("visitor cannot be null");
+
+            Node<T> node = this;
+            int depth = 0;
+            while (node != null) {
+                if (!visitor.visit(node, depth)) {
+                    return (false);
+                }
+
+                if (node._firstChild != null) {
+                    node = node._firstChild;
+                    ++depth;
+                } else {
+                    while (node != this && node._nextSibling == null) {
+                        node = node._parent;
+                        --depth;
+                    }
+                    node = (node == this) ? null : node._nextSibling;
+                }
+            }
+            return (true);
+        }
+
         /**
          * Gets the parent of this node.
          *
@@ -220,6 +541,16 @@ public class LinkedHashMapTree<T> {
             return (this._parent);
         }
 
+        /**
+         * Gets the number of nodes in the subtree of this node, including this node. The size is kept as children are
+         * added and removed, so this is O(1).
+         *
+         * @return An integer of 1 to n.
+         */
+        public int getSubtreeSize() {
+            return (this._subtreeSize);
+        }
+
         /**
          * A method to determine if the node has data. A node is empty if it does not have any data. The data is null.
          *
@@ -235,7 +566,7 @@ public class LinkedHashMapTree<T> {
          * @return A boolean value. Will return true if the node is a leaf, otherwise it will be false.
          */
         public boolean isLeaf() {
-            return (this._children.isEmpty());
+            return (this._childCount == 0);
         }
 
         /**
@@ -263,11 +594,33 @@ public class LinkedHashMapTree<T> {
             if (data == null)
                 throw new IllegalArgumentException("data cannot be null");
 
-            final Node<T> removedNode = this._children.remove(data);
+            final Node<T> removedNode = this.findChild(data);
 
-            // clear parent on node that is removed.
+            // clear parent on node that is removed. setParent() does not accept null.
             if (removedNode != null) {
-                removedNode.setParent(null);
+                --this._childCount;
+                if (this._childIndex != null) {
+                    // drop the index once the children are few enough to scan, leaving room before it is rebuilt.
+                    if (this._childCount <= INDEX_THRESHOLD / 2) {
+                        this._childIndex = null;
+                    } else {
+                        this._childIndex.remove(data);
+                    }
+                }
+                removedNode._parent = null;
+                if (removedNode._previousSibling == null) {
+                    this._firstChild = removedNode._nextSibling;
+                } else {
+                    removedNode._previousSibling._nextSibling = removedNode._nextSibling;
+                }
+                if (removedNode._nextSibling == null) {
+                    this._lastChild = removedNode._previousSibling;
+                } else {
+                    removedNode._nextSibling._previousSibling = removedNode._previousSibling;
+                }
+                removedNode._nextSibling = null;
+                removedNode._previousSibling = null;
+                this.updateAncestors(-removedNode._subtreeSize);
             }
 
             return (removedNode);
@@ -278,7 +631,131 @@ public class LinkedHashMapTree<T> {
          * Removes all children from the current node. Child nodes will be lost.
          */
         public void removeChildren() {
-            this._children.clear();
+            final int removedCount = this._subtreeSize - 1;
+            this._childIndex = null;
+            this._childCount = 0;
+            this._firstChild = null;
+            this._lastChild = null;
+            this.updateAncestors(-removedCount);
+        }
+
+        /*
+         * Adds nodes to the subtree size of this node and its ancestors, stopping before the boundary node. The height
+         * is the height that the new nodes give this node, and may make each ancestor taller.
+         */
+        private void updateAncestors(final int count, final int height, final Node<T> boundary) {
+            int ancestorHeight = height;
+            for (Node<T> ancestor = this; ancestor != null && ancestor != boundary; ancestor = ancestor._parent) {
+                ancestor._subtreeSize += count;
+                if (ancestorHeight > ancestor._height) {
+                    ancestor._height = ancestorHeight;
+                }
+                ancestorHeight = ancestor._height + 1;
+            }
+        }
+
+        /*
+         * Adds the change in node count to this node and every ancestor, and recalculates the height of each ancestor
+         * until a height does not change.
+         */
+        private void updateAncestors(final int delta) {
+            boolean isHeightChanged = true;
+            for (Node<T> ancestor = this; ancestor != null; ancestor = ancestor._parent) {
+                ancestor._subtreeSize += delta;
+                if (isHeightChanged) {
+                    final int height = ancestor._height;
+                    ancestor.updateHeight();
+                    isHeightChanged = (height != ancestor._height);
+                }
+            }
+        }
+
+        /*
+         * Creates a child after the other children without checking for a duplicate or updating any ancestor.
+         */
+        private Node<T> linkChild(final T data) {
+            return (this.attachChild(this._tree.createNode(data)));
+        }
+
+        /*
+         * Links a node that has no parent after the other children.
+         */
+        private Node<T> attachChild(final Node<T> node) {
+            node.setParent(this);
+            if (this._lastChild == null) {
+                this._firstChild = node;
+            } else {
+                this._lastChild._nextSibling = node;
+                node._previousSibling = this._lastChild;
+            }
+            this._lastChild = node;
+            ++this._childCount;
+            if (this._childIndex != null) {
+                this._childIndex.put(node._data, node);
+            } else if (this._childCount > INDEX_THRESHOLD) {
+                this.indexChildren(this._childCount);
+            }
+            return (node);
+        }
+
+        /*
+         * Finds the child that holds the data, through the index if there is one, otherwise by scanning the children.
+         */
+        private Node<T> findChild(final T data) {
+            if (this._childIndex != null) {
+                return (this._childIndex.get(data));
+            }
+            for (Node<T> child = this._firstChild; child != null; child = child._nextSibling) {
+                if (child._data.equals(data)) {
+                    return (child);
+                }
+            }
+            return (null);
+        }
+
+        /*
+         * Creates the index sized for the expected number of children and adds the current children to it.
+         */
+        private void indexChildren(final int childCount) {
+            this._childIndex = new HashMap<>((int) (childCount / 0.75f) + 1);
+            for (Node<T> child = this._firstChild; child != null; child = child._nextSibling) {
+                this._childIndex.put(child._data, child);
+            }
+        }
+
+        /*
+         * Creates the index ahead of the children when a node will have more than INDEX_THRESHOLD of them, so that it
+         * is not rehashed as they are added. Used when a tree is read and the number of children of each node is known.
+         */
+        void presizeChildren(final int childCount) {
+            assert (this._childCount == 0) : "The children can only be presized while the node has none.";
+            if (childCount > INDEX_THRESHOLD) {
+                this.indexChildren(childCount);
+            }
+        }
+
+        /*
+         * Recalculates the height of this node from its children.
+         */
+        private void updateHeight() {
+            int height = 0;
+            for (Node<T> child = this._firstChild; child != null; child = child._nextSibling) {
+                height = Math.max(height, child._height + 1);
+            }
+            this._height = height;
+        }
+
+        /*
+         * Recalculates the subtree size and height of this node from its children. Used by a bulk build once the
+         * children of a boundary node are built.
+         */
+        void updateSubtree() {
+            int size = 1;
+            for (Node<T> child = this._firstChild; child != null; child = child._nextSibling) {
+                size += child._subtreeSize;
+            }
+            this._subtreeSize = size;
+            this.updateHeight();
         }
 
         /*
@@ -294,6 +771,257 @@ public class LinkedHashMapTree<T> {
         }
     }
 
+    /*
+     * Boxes the rest of the characters of a path as the nodes for them are added.
+     */
+    private static final class CharIterator implements Iterator<Character> {
+        private final CharSequence _path;
+        private int _index;
+
+        private CharIterator(final CharSequence path, final int index) {
+            this._path = path;
+            this._index = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (this._index < this._path.length());
+        }
+
+        @Override
+        public Character next() {
+            if (this._index >= this._path.length()) {
+                throw new NoSuchElementException();
+            }
+            return (this._path.charAt(this._index++));
+        }
+    }
+
+    /*
+     * The children of a node read through their sibling links, in the order they were added.
+     */
+    private static final class ChildrenView<T> extends AbstractCollection<Node<T>> {
+        private final Node<T> _node;
+
+        private ChildrenView(final Node<T> node) {
+            this._node = node;
+        }
+
+        @Override
+        public Iterator<Node<T>> iterator() {
+            return (new Iterator<Node<T>>() {
+                private Node<T> _next = ChildrenView.this._node._firstChild;
+
+                @Override
+                public boolean hasNext() {
+                    return (this._next != null);
+                }
+
+                @Override
+                public Node<T> next() {
+                    final Node<T> node = this._next;
+                    if (node == null) {
+                        throw new NoSuchElementException();
+                    }
+                    this._next = node._nextSibling;
+                    return (node);
+                }
+            });
+        }
+
+        @Override
+        public int size() {
+            return (this._node._childCount);
+        }
+    }
+
+    /*
+     * Iterates a subtree in breadth-first order with an array-backed queue.
+     */
+    private static final class BreadthFirstIterator<T> implements Iterator<Node<T>> {
+        private final ArrayDeque<Node<T>> _queue;
+
+        private BreadthFirstIterator(final Node<T> start) {
+            this._queue = new ArrayDeque<>();
+            this._queue.addLast(start);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (!this._queue.isEmpty());
+        }
+
+        @Override
+        public Node<T> next() {
+            final Node<T> node = this._queue.pollFirst();
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+            for (Node<T> child = node._firstChild; child != null; child = child._nextSibling) {
+                this._queue.addLast(child);
+            }
+            return (node);
+        }
+    }
+
+    /*
+     * Iterates a subtree in post-order by following the links of the nodes.
+     */
+    private static final class PostOrderIterator<T> implements Iterator<Node<T>> {
+        private final Node<T> _start;
+        private Node<T> _next;
+
+        private PostOrderIterator(final Node<T> start) {
+            this._start = start;
+            this._next = start.firstPostOrder();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (this._next != null);
+        }
+
+        @Override
+        public Node<T> next() {
+            final Node<T> node = this._next;
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+            this._next = node.nextPostOrder(this._start);
+            return (node);
+        }
+    }
+
+    /*
+     * Iterates a subtree in pre-order by following the links of the nodes.
+     */
+    private static final class PreOrderIterator<T> implements Iterator<Node<T>> {
+        private final Node<T> _start;
+        private Node<T> _next;
+
+        private PreOrderIterator(final Node<T> start) {
+            this._start = start;
+            this._next = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (this._next != null);
+        }
+
+        @Override
+        public Node<T> next() {
+            final Node<T> node = this._next;
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+            this._next = node.nextPreOrder(this._start);
+            return (node);
+        }
+    }
+
+    /*
+     * Reduces a subtree on a ForkJoinPool. A subtree at or below the threshold is walked sequentially; a larger one is
+     * split at its children, every large child but the last is forked and the last is walked by this task. The results
+     * are combined in pre-order, so the combiner only has to be associative.
+     */
+    private static final class ReduceTask<T, R> extends RecursiveTask<R> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Node<T> _node;
+        private final R _identity;
+        private final BiFunction<R, ? super Node<T>, R> _accumulator;
+        private final BinaryOperator<R> _combiner;
+        private final int _threshold;
+
+        private ReduceTask(final Node<T> node, final R identity, final BiFunction<R, ? super Node<T>, R> accumulator,
+                final BinaryOperator<R> combiner, final int threshold) {
+            this._node = node;
+            this._identity = identity;
+            this._accumulator = accumulator;
+            this._combiner = combiner;
+            this._threshold = threshold;
+        }
+
+        /*
+         * Accumulates every node of the subtree in pre-order.
+         */
+        private R accumulateSubtree(final R result, final Node<T> start) {
+            R current = result;
+            for (Node<T> node = start; node != null; node = node.nextPreOrder(start)) {
+                current = this._accumulator.apply(current, node);
+            }
+            return (current);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected R compute() {
+            // the results in pre-order: partial results of this task and the tasks that were forked between them.
+            final List<Object> segments = new ArrayList<>();
+            // the results of the small subtrees that follow a large child that this task walks into. They are added
+            // after that child, innermost first.
+            final List<R> tails = new ArrayList<>();
+            R current = this._identity;
+            Node<T> node = this._node;
+            while (node != null) {
+                if (node._subtreeSize <= this._threshold) {
+                    current = this.accumulateSubtree(current, node);
+                    break;
+                }
+                current = this._accumulator.apply(current, node);
+
+                // the last large child is walked by this task rather than
+                // by a nested task, so a deep tree does not nest a task per
+                // level.
+                Node<T> lastLarge = node._lastChild;
+                while (lastLarge != null && lastLarge._subtreeSize <= this._threshold) {
+                    lastLarge = lastLarge._previousSibling;
+                }
+
+                for (Node<T> child = node._firstChild; child != lastLarge; child = child._nextSibling) {
+                    if (child._subtreeSize > this._threshold) {
+                        segments.add(current);
+                        final ReduceTask<T, R> task = new ReduceTask<>(child, this._identity, this._accumulator,
+                                this._combiner, this._threshold);
+                        task.fork();
+                        segments.add(task);
+                        current = this._identity;
+                    } else {
+                        current = this.accumulateSubtree(current, child);
+                    }
+                }
+                if (lastLarge != null && lastLarge._nextSibling != null) {
+                    R tail = this._identity;
+                    for (Node<T> child = lastLarge._nextSibling; child != null; child = child._nextSibling) {
+                        tail = this.accumulateSubtree(tail, child);
+                    }
+                    tails.add(tail);
+                }
+                node = lastLarge;
+            }
+            segments.add(current);
+            for (int i = tails.size() - 1; i >= 0; --i) {
+                segments.add(tails.get(i));
+            }
+
+            R result = null;
+            boolean isFirst = true;
+            for (final Object segment : segments) {
+                final R value = (segment instanceof ReduceTask) ? ((ReduceTask<T, R>) segment).join() : (R) segment;
+                result = isFirst ? value : this._combiner.apply(result, value);
+                isFirst = false;
+            }
+            return (result);
+        }
+    }
+
+    /**
+     * The subtree size at or below which a parallel traversal walks a subtree sequentially.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+
     /*
      * The root of the tree. Should not be null.
      */
@@ -328,6 +1056,132 @@ public class LinkedHashMapTree<T> {
         return (node);
     }
 
+    /**
+     * Adds the nodes of a path below the root that do not exist yet. This is a helper method that performs the same
+     * action as getting the root node and adding the path.
+     *
+     * @param path
+     *            The data of each node from the child of the root down. May not be null or hold null.
+     *
+     * @return The <code>Node</code> instance at the end of the path, or the root if the path is empty.
+     */
+    public Node<T> addPath(final Iterable<? extends T> path) {
+        return (this._root.addPath(path));
+    }
+
+    /**
+     * Adds the nodes of a path below the root that do not exist yet. This is a helper method that performs the same
+     * action as getting the root node and adding the path.
+     *
+     * @param path
+     *            The data of each node from the child of the root down. May not be null or hold null.
+     *
+     * @return The <code>Node</code> instance at the end of the path, or the root if the path is empty.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final Node<T> addPath(final T... path) {
+        return (this._root.addPath(path));
+    }
+
+    /**
+     * Adds the nodes for the characters of a path below a node that do not exist yet. The characters are matched
+     * against the existing children without boxing; only the nodes that are added hold a boxed character.
+     *
+     * @param node
+     *            The node to add the path below. May not be null.
+     * @param path
+     *            The characters of each node from the child of the node down. May not be null.
+     *
+     * @return The <code>Node</code> instance at the end of the path, or the node if the path is empty.
+     */
+    public static Node<Character> addCharPath(final Node<Character> node, final CharSequence path) {
+        if (node == null)
+            throw new IllegalArgumentException("node cannot be null");
+        if (path == null)
+            throw new IllegalArgumentException("path cannot be null");
+
+        final int length = path.length();
+        Node<Character> current = node;
+        for (int i = 0; i < length; ++i) {
+            final Node<Character> child = LinkedHashMapTree.findCharChild(current, path.charAt(i));
+            if (child == null) {
+                return (current.addBranch(path.charAt(i), new CharIterator(path, i + 1)));
+            }
+            current = child;
+        }
+        return (current);
+    }
+
+    /**
+     * Finds the node at the end of a path of characters below a node, without boxing the characters.
+     *
+     * @param node
+     *            The node to search below. May not be null.
+     * @param path
+     *            The characters of each node from the child of the node down. May not be null.
+     *
+     * @return The <code>Node</code> instance at the end of the path, the node if the path is empty, or null if the path
+     *         does not exist.
+     */
+    public static Node<Character> findCharPath(final Node<Character> node, final CharSequence path) {
+        if (node == null)
+            throw new IllegalArgumentException("node cannot be null");
+        if (path == null)
+            throw new IllegalArgumentException("path cannot be null");
+
+        final int length = path.length();
+        Node<Character> current = node;
+        for (int i = 0; i < length && current != null; ++i) {
+            current = LinkedHashMapTree.findCharChild(current, path.charAt(i));
+        }
+        return (current);
+    }
+
+    /*
+     * Finds the child that holds the character. A node of low fan-out is scanned by comparing char values; the index of
+     * a wide node is looked up with Character.valueOf(), which is cached for ASCII.
+     */
+    static Node<Character> findCharChild(final Node<Character> node, final char character) {
+        if (node._childIndex != null) {
+            return (node._childIndex.get(character));
+        }
+        for (Node<Character> child = node._firstChild; child != null; child = child._nextSibling) {
+            if (child._data.charValue() == character) {
+                return (child);
+            }
+        }
+        return (null);
+    }
+
+    /**
+     * Finds the node at the end of a path below the root.
+     *
+     * @param path
+     *            The data of each node from the child of the root down. May not be null or hold null.
+     *
+     * @return The <code>Node</code> instance at the end of the path, the root if the path is empty, or null if the path
+     *         does not exist.
+     */
+    public Node<T> findPath(final Iterable<? extends T> path) {
+        return (this._root.findPath(path));
+    }
+
+    /**
+     * Finds the node at the end of a path below the root.
+     *
+     * @param path
+     *            The data of each node from the child of the root down. May not be null or hold null.
+     *
+     * @return The <code>Node</code> instance at the end of the path, the root if the path is empty, or null if the path
+     *         does not exist.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final Node<T> findPath(final T... path) {
+        return (this._root.findPath(path));
+    }
+
     /*
      * A factory helper method that creates the <code>Node</code> implementation.
      * @return The <code>Node</code> instance that was created.
@@ -339,7 +1193,7 @@ public class LinkedHashMapTree<T> {
     }
 
     /**
-     * Gets the height of the Tree.
+     * Gets the height of the Tree. The height is kept as nodes are added and removed, so this is O(1).
      *
      * @return An integer of 0 to n.
      */
@@ -359,12 +1213,13 @@ public class LinkedHashMapTree<T> {
     }
 
     /**
-     * Gets the number of nodes contained in this tree. A Tree instance will always have one node that is the root;
+     * Gets the number of nodes contained in this tree. A Tree instance will always have one node that is the root. The
+     * count is kept as nodes are added and removed, so this is O(1).
      *
      * @return An integer value from 1 to n.
      */
     public int getNodeCount() {
-        return (1 + this._root.getChildCount());
+        return (this._root.getSubtreeSize());
     }
 
     /**
@@ -376,6 +1231,105 @@ public class LinkedHashMapTree<T> {
         return (this._root);
     }
 
+    /**
+     * Performs an action for every node of the tree in parallel on the common <code>ForkJoinPool</code>. The tree is
+     * split at subtrees larger than DEFAULT_PARALLEL_THRESHOLD nodes. The action may be called by many threads at once
+     * and in no particular order. The tree must not be changed during the traversal.
+     *
+     * @param action
+     *            The action to perform on each node. May not be null.
+     */
+    public void parallelForEach(final Consumer<? super Node<T>> action) {
+        this.parallelForEach(action, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Performs an action for every node of the tree in parallel on the common <code>ForkJoinPool</code>. The action may
+     * be called by many threads at once and in no particular order. The tree must not be changed during the traversal.
+     *
+     * @param action
+     *            The action to perform on each node. May not be null.
+     * @param threshold
+     *            The subtree size at or below which a subtree is walked sequentially by one thread. Must be greater
+     *            than 0.
+     */
+    public void parallelForEach(final Consumer<? super Node<T>> action, final int threshold) {
+        if (action == null)
+            throw new IllegalArgumentException("action cannot be null");
+
+        this.parallelReduce(null, (ignored, node) -> {
+            action.accept(node);
+            return (null);
+        }, (left, right) -> null, threshold);
+    }
+
+    /**
+     * Reduces the nodes of the tree in parallel on the common <code>ForkJoinPool</code>, the same as
+     * <code>Stream.reduce(identity, accumulator, combiner)</code>. The tree is split at subtrees larger than
+     * DEFAULT_PARALLEL_THRESHOLD nodes.
+     *
+     * @param identity
+     *            The identity value of the combiner.
+     * @param accumulator
+     *            Adds a node to a result. May not be null.
+     * @param combiner
+     *            Combines two results. Must be associative. May not be null.
+     * @param <R>
+     *            The class type of the result.
+     *
+     * @return The result.
+     */
+    public <R> R parallelReduce(final R identity, final BiFunction<R, ? super Node<T>, R> accumulator,
+            final BinaryOperator<R> combiner) {
+        return (this.parallelReduce(identity, accumulator, combiner, DEFAULT_PARALLEL_THRESHOLD));
+    }
+
+    /**
+     * Reduces the nodes of the tree in parallel on the common <code>ForkJoinPool</code>, the same as
+     * <code>Stream.reduce(identity, accumulator, combiner)</code>. Each subtree larger than the threshold is split at
+     * its children and its large children are reduced by their own tasks; smaller subtrees are walked sequentially. The
+     * partial results are combined in pre-order, so a combiner that is associative but not commutative still gives the
+     * result of a sequential pre-order reduction. The tree must not be changed during the traversal.
+     *
+     * @param identity
+     *            The identity value of the combiner.
+     * @param accumulator
+     *            Adds a node to a result. May not be null.
+     * @param combiner
+     *            Combines two results. Must be associative. May not be null.
+     * @param threshold
+     *            The subtree size at or below which a subtree is walked sequentially by one thread. Must be greater
+     *            than 0.
+     * @param <R>
+     *            The class type of the result.
+     *
+     * @return The result.
+     */
+    public <R> R parallelReduce(final R identity, final BiFunction<R, ? super Node<T>, R> accumulator,
+            final BinaryOperator<R> combiner, final int threshold) {
+        if (accumulator == null)
+            throw new IllegalArgumentException("accumulator cannot be null");
+        if (combiner == null)
+            throw new IllegalArgumentException("combiner cannot be null");
+        if (threshold < 1)
+            throw new IllegalArgumentException("threshold must be greater than 0");
+
+        return (ForkJoinPool.commonPool()
+                .invoke(new ReduceTask<>(this._root, identity, accumulator, combiner, threshold)));
+    }
+
+    /**
+     * Visits the tree in pre-order, starting at the root. The walk stops as soon as the visitor returns false.
+     *
+     * @param visitor
+     *            A <code>TreeVisitor</code> instance. May not be null.
+     *
+     * @return A boolean value of true if every node was visited, otherwise it is false if the visitor stopped the walk.
+     */
+    public boolean walk(final TreeVisitor<T> visitor) {
+        return (this._root.walk(visitor));
+    }
+
     /**
      * Removes a child from the root <code>Node</code> instance. This is a helper method that performs the same action
      * as getting the root node and remove a child.
@@ -19,9 +19,18 @@
 
 package com.gabstudios.collection;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * An implementation of a Trie. Create a dictionary of words by using the add(String word ) method. This can be used to
@@ -42,6 +51,11 @@ public class LinkedHashMapTrie extends LinkedHashMapTree<Character> implements T
          */
         private boolean _isWord;
 
+        /*
+         * The number of words in the subtree of this node, including this node if it is the end of a word.
+         */
+        private int _wordCount;
+
         /**
          * @param tree
          *            The tree that this node is part of.
@@ -51,6 +65,16 @@ public class LinkedHashMapTrie extends LinkedHashMapTree<Character> implements T
         protected TrieNode(final LinkedHashMapTrie tree, final Character data) {
             super(tree, data);
             this._isWord = false;
+            this._wordCount = 0;
+        }
+
+        /**
+         * Gets the number of words that end in the subtree of this node, including this node.
+         *
+         * @return An integer value of 0 to n.
+         */
+        public int getWordCount() {
+            return (this._wordCount);
         }
 
         /**
@@ -69,13 +93,165 @@ public class LinkedHashMapTrie extends LinkedHashMapTree<Character> implements T
             this._isWord = true;
         }
 
+        /*
+         * Used to unmark a node that was the end of a word.
+         */
+        void unmarkWord() {
+            this._isWord = false;
+        }
+
+        /*
+         * Adjusts the word count of this node and every ancestor up to the root.
+         */
+        void updateWordCount(final int delta) {
+            TrieNode node = this;
+            while (node != null) {
+                node._wordCount += delta;
+                node = (TrieNode) node.getParent();
+            }
+        }
+
     }
 
+    /*
+     * Reads the nodes for the shared walks. The children are read through the sibling links.
+     */
+    private static final class NodeAccessor implements TrieNodeAccessor<TrieNode> {
+
+        @Override
+        public TrieNode findChild(final TrieNode node, final int key) {
+            return ((TrieNode) LinkedHashMapTree.findCharChild(node, (char) key));
+        }
+
+        @Override
+        public TrieNode getChild(final TrieNode node, final int index, final TrieNode next) {
+            return ((TrieNode) (next == null ? node.getLastChild() : next.getPreviousSibling()));
+        }
+
+        @Override
+        public int getChildCount(final TrieNode node) {
+            return (node.getChildCount());
+        }
+
+        @Override
+        public int getKey(final TrieNode node, final int index, final TrieNode child) {
+            return (child.getData().charValue());
+        }
+
+        @Override
+        public int getWordCount(final TrieNode node) {
+            return (node.getWordCount());
+        }
+
+        @Override
+        public boolean isWord(final TrieNode node) {
+            return (node.isWord());
+        }
+    }
+
+    /*
+     * Builds the words below a node for addAll. The words are grouped by their character after the node and every group
+     * is built by its own task below its own child, so the tasks never share a node. A small list of words is added
+     * without more tasks.
+     */
+    private static final class BuildTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        /*
+         * The node that the words are built below.
+         */
+        private final TrieNode _node;
+
+        /*
+         * The words. The first _depth characters of each word lead to _node.
+         */
+        private final List<String> _words;
+
+        /*
+         * The number of characters of each word that are already matched by _node.
+         */
+        private final int _depth;
+
+        BuildTask(final TrieNode node, final List<String> words, final int depth) {
+            assert (node != null) : "The parameter 'node' should not be null.";
+            assert (words != null) : "The parameter 'words' should not be null.";
+
+            this._node = node;
+            this._words = words;
+            this._depth = depth;
+        }
+
+        /*
+         * Adds the words and returns the number of words that were not already contained.
+         */
+        @Override
+        protected Integer compute() {
+            int count = 0;
+            if (this._words.size() <= SEQUENTIAL_THRESHOLD) {
+                for (final String word : this._words) {
+                    count += LinkedHashMapTrie.insert(this._node, word, this._depth);
+                }
+            } else {
+                // group by the next character. The groups keep the order of
+                // the words so the children are created in the same order as
+                // add(word) would create them.
+                final Map<Character, List<String>> groups = new LinkedHashMap<>();
+                for (final String word : this._words) {
+                    if (word.length() == this._depth) {
+                        if (!this._node.isWord()) {
+                            this._node.markWord();
+                            ++count;
+                        }
+                    } else {
+                        final Character character = word.charAt(this._depth);
+                        List<String> group = groups.get(character);
+                        if (group == null) {
+                            group = new ArrayList<>();
+                            groups.put(character, group);
+                        }
+                        group.add(word);
+                    }
+                }
+
+                final List<BuildTask> tasks = new ArrayList<>(groups.size());
+                for (final Map.Entry<Character, List<String>> entry : groups.entrySet()) {
+                    TrieNode child = (TrieNode) this._node.getChild(entry.getKey());
+                    if (child == null) {
+                        child = (TrieNode) this._node.addChild(entry.getKey(), this._node);
+                    }
+                    tasks.add(new BuildTask(child, entry.getValue(), this._depth + 1));
+                }
+                for (final BuildTask task : ForkJoinTask.invokeAll(tasks)) {
+                    count += task.join();
+                }
+            }
+            this._node._wordCount += count;
+            this._node.updateSubtree();
+            return (count);
+        }
+    }
+
+    /*
+     * Reads the nodes for the shared walks.
+     */
+    private static final NodeAccessor ACCESSOR = new NodeAccessor();
+
     /*
      * A reasonable max length for a word in the Trie.
      */
     private static final int MAX_WORD_LENGTH = 100;
 
+    /*
+     * The number of words that addAll adds in one task without splitting them further.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 2048;
+
+    /*
+     * A Trie of the reversed words that is used to match patterns that start with '*'. Null if it is not enabled.
+     */
+    private LinkedHashMapTrie _suffixIndex;
+
     /**
      * Constructor. The root is the '*' character.
      */
@@ -88,8 +264,12 @@ public class LinkedHashMapTrie extends LinkedHashMapTree<Character> implements T
      */
     @Override
     public void clear() {
-        Node<Character> root = this.getRoot();
+        final TrieNode root = (TrieNode) this.getRoot();
         root.removeChildren();
+        root._wordCount = 0;
+        if (this._suffixIndex != null) {
+            this._suffixIndex.clear();
+        }
     }
 
     /**
@@ -100,33 +280,116 @@ public class LinkedHashMapTrie extends LinkedHashMapTree<Character> implements T
      */
     @Override
     public void add(final String word) {
+        LinkedHashMapTrie.validateWord(word);
+
+        // each character is a child of the previous character, added if it
+        // is not there yet. The complete word is the final node.
+        final TrieNode node = (TrieNode) LinkedHashMapTree.addCharPath(this.getRoot(), word);
+        // mark the last node with terminator.
+        if (!node.isWord()) {
+            node.markWord();
+            node.updateWordCount(1);
+            if (this._suffixIndex != null) {
+                this._suffixIndex.add(LinkedHashMapTrie.reverse(word));
+            }
+        }
+    }
+
+    /**
+     * Adds many words to the Trie. The words are split by their first characters and the parts are built in parallel on
+     * the common <code>ForkJoinPool</code>, each part below its own child of the root. A part that is still large is
+     * split again by the next character. The Trie is the same as if add(word) was called for each word in order.
+     *
+     * @param words
+     *            The words to add. Must not be null and each word must not be null or empty.
+     */
+    @Override
+    public void addAll(final Collection<String> words) {
+        if (words == null) {
+            throw new IllegalArgumentException("words cannot be null");
+        }
+        for (final String word : words) {
+            LinkedHashMapTrie.validateWord(word);
+        }
+
+        final List<String> list = new ArrayList<>(words);
+        ForkJoinPool.commonPool().invoke(new BuildTask((TrieNode) this.getRoot(), list, 0));
+
+        if (this._suffixIndex != null) {
+            final List<String> reversed = new ArrayList<>(list.size());
+            for (final String word : list) {
+                reversed.add(LinkedHashMapTrie.reverse(word));
+            }
+            this._suffixIndex.addAll(reversed);
+        }
+    }
+
+    /*
+     * Adds the rest of a word below the node. The word counts, subtree sizes and heights are updated up to, but not
+     * including, the node. Returns 1 if the word was added or 0 if it was already contained.
+     */
+    private static int insert(final TrieNode node, final String word, final int depth) {
+        TrieNode current = node;
+        for (int i = depth; i < word.length(); ++i) {
+            final Character character = word.charAt(i);
+            final TrieNode child = (TrieNode) current.getChild(character);
+            current = (child != null) ? child : (TrieNode) current.addChild(character, node);
+        }
+        if (current.isWord()) {
+            return (0);
+        }
+
+        current.markWord();
+        while (current != node) {
+            ++current._wordCount;
+            current = (TrieNode) current.getParent();
+        }
+        return (1);
+    }
+
+    /**
+     * Removes a word from the Trie. The node of the last character is unmarked and the nodes that no longer lead to a
+     * word are pruned back toward the root.
+     *
+     * @param word
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A boolean value of true if the word was removed, otherwise it is false if it was not contained.
+     */
+    @Override
+    public boolean remove(final String word) {
         if (word == null || word.isEmpty()) {
             throw new IllegalArgumentException("word cannot be null or empty");
         }
-        if (word.length() > MAX_WORD_LENGTH) { // Enforce a reasonable max length
-            throw new IllegalArgumentException("word length exceeds maximum allowed (100 characters)");
+
+        TrieNode node = this.findNode(word);
+        if (node == null || !node.isWord()) {
+            return (false);
         }
 
-        final int count = word.length();
-        TrieNode node = (TrieNode) this.getRoot();
-        for (int i = 0; i < count; ++i) {
-            // break the word into characters and add each character to the
-            // tree.
-            // A character will be a child of the previous character.
-            // The complete word is the final leaf.
-            final Character character = word.charAt(i);
-            if (node.containsChild(character)) {
-                // if the character is contained, get that node so that further
-                // characters can be added to it.
-                node = (TrieNode) node.getChild(character);
-            } else {
-                // if the character is not contained, then create a new node so
-                // that further characters can be added to it.
-                node = (TrieNode) node.addChild(character);
-            }
+        node.unmarkWord();
+        node.updateWordCount(-1);
+
+        // prune the branch that no longer leads to a word.
+        while (node.getWordCount() == 0 && node.getParent() != null) {
+            final TrieNode parent = (TrieNode) node.getParent();
+            parent.removeChild(node.getData());
+            node = parent;
         }
-        // mark the last node with terminator.
-        node.markWord();
+        if (this._suffixIndex != null) {
+            this._suffixIndex.remove(LinkedHashMapTrie.reverse(word));
+        }
+        return (true);
+    }
+
+    /**
+     * Gets the number of words contained in the Trie. The count is kept as words are added and removed so this is O(1).
+     *
+     * @return An integer value of 0 to n.
+     */
+    @Override
+    public int size() {
+        return (((TrieNode) this.getRoot()).getWordCount());
     }
 
     /*
@@ -140,6 +403,86 @@ public class LinkedHashMapTrie extends LinkedHashMapTree<Character> implements T
         return (node);
     }
 
+    /**
+     * Counts the words that start with the prefix in O(length of the prefix). The words are not enumerated.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return An integer value of 0 to n.
+     */
+    @Override
+    public int countWords(final String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            throw new IllegalArgumentException("prefix cannot be null or empty");
+        }
+        if (prefix.length() > MAX_WORD_LENGTH) { // Enforce a reasonable max length
+            throw new IllegalArgumentException("prefix length exceeds maximum allowed (100 characters)");
+        }
+
+        final TrieNode node = this.findNode(prefix);
+        return (node == null ? 0 : node.getWordCount());
+    }
+
+    /**
+     * Gets the only word that starts with the prefix. The word count of the node at the end of the prefix tells if the
+     * word is unique, so nothing is enumerated.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return The word if exactly one word starts with the prefix, otherwise null.
+     */
+    @Override
+    public String getUniqueWord(final String prefix) {
+        return (this.getUniqueWord(this.getNode(prefix), prefix));
+    }
+
+    /**
+     * Gets the only word below a node that was found by getNode(prefix). The prefix is not walked again, so a caller
+     * that also needs to know why there is no unique word reads the word count of the same node.
+     *
+     * @param node
+     *            The node at the end of the prefix. May be null if the prefix is not contained.
+     * @param prefix
+     *            The prefix that the node was found by. May not be null.
+     *
+     * @return The word if exactly one word starts with the prefix, otherwise null.
+     */
+    public String getUniqueWord(final TrieNode node, final CharSequence prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("prefix cannot be null");
+        }
+        if (node == null || node.getWordCount() != 1) {
+            return (null);
+        }
+
+        // a node with a single word below it is either the word or has a single child.
+        final StringBuilder word = new StringBuilder(prefix);
+        TrieNode current = node;
+        while (!current.isWord()) {
+            current = (TrieNode) current.getChildrenView().iterator().next();
+            word.append(current.getData().charValue());
+        }
+        return (word.toString());
+    }
+
+    /**
+     * Gets the node at the end of the prefix. The node holds both the number of words that start with the prefix and
+     * the words themselves, so getUniqueWord(node, prefix) and stream(node, prefix) answer from it without walking the
+     * prefix again. The Trie must not be modified while the node is in use.
+     *
+     * @param prefix
+     *            A <code>CharSequence</code> instance. May not be null or empty.
+     *
+     * @return The <code>TrieNode</code> instance, or null if no word starts with the prefix.
+     */
+    public TrieNode getNode(final CharSequence prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        return (this.findNode(prefix));
+    }
+
     /**
      * Gets all of the words that were added.
      *
@@ -160,12 +503,7 @@ public class LinkedHashMapTrie extends LinkedHashMapTree<Character> implements T
      */
     @Override
     public List<String> getWords(final String prefix) {
-        if (prefix == null || prefix.isEmpty()) {
-            throw new IllegalArgumentException("prefix cannot be null or empty");
-        }
-        if (prefix.length() > MAX_WORD_LENGTH) { // Enforce a reasonable max length
-            throw new IllegalArgumentException("prefix length exceeds maximum allowed (100 characters)");
-        }
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
 
         // walk prefix to known set of nodes.
         // input helo
@@ -219,6 +557,71 @@ public class LinkedHashMapTrie extends LinkedHashMapTree<Character> implements T
         return (data);
     }
 
+    /**
+     * Determines if the suffix index is enabled.
+     *
+     * @return A boolean value of true if the suffix index is enabled, otherwise it is false.
+     */
+    public boolean isSuffixIndexEnabled() {
+        return (this._suffixIndex != null);
+    }
+
+    /**
+     * Gets the words that match a glob pattern. '?' matches any one character and '*' matches zero or more characters.
+     * The branches that can not match are not visited. If the suffix index is enabled, then a pattern that starts with
+     * '*' and ends with a character, such as "*file", is matched against the reversed words so that the walk is pruned
+     * from the first character. The words are in the order of the Trie, or of the suffix index when it is used.
+     *
+     * @param glob
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>List</code> instance containing zero to many <code>String</code> instances.
+     */
+    @Override
+    public List<String> match(final String glob) {
+        GlobPattern.validate(glob, MAX_WORD_LENGTH);
+
+        final GlobPattern pattern = new GlobPattern(glob);
+        if (this._suffixIndex != null && pattern.isSuffixPattern()) {
+            final List<String> words = this._suffixIndex.match(pattern.reversed());
+            words.replaceAll(LinkedHashMapTrie::reverse);
+            return (words);
+        }
+        return (this.match(pattern));
+    }
+
+    /*
+     * Walks the Trie depth first with the states of the pattern. A branch is not visited when no state is left.
+     */
+    List<String> match(final GlobPattern pattern) {
+        return (pattern.match(ACCESSOR, (TrieNode) this.getRoot()));
+    }
+
+    /*
+     * Reverses the characters of a word.
+     */
+    private static String reverse(final String word) {
+        return (new StringBuilder(word).reverse().toString());
+    }
+
+    /**
+     * Enables or disables the suffix index. The index is a second Trie of the reversed words that makes patterns that
+     * start with '*' as fast as patterns that start with a character, at the cost of about the memory of the Trie
+     * itself. Enabling it indexes the words that were already added.
+     *
+     * @param isEnabled
+     *            A boolean value of true to enable the suffix index.
+     */
+    public void setSuffixIndexEnabled(final boolean isEnabled) {
+        if (!isEnabled) {
+            this._suffixIndex = null;
+        } else if (this._suffixIndex == null) {
+            final LinkedHashMapTrie suffixIndex = new LinkedHashMapTrie();
+            this.stream().forEach(word -> suffixIndex.add(LinkedHashMapTrie.reverse(word)));
+            this._suffixIndex = suffixIndex;
+        }
+    }
+
     /*
      * (non-Javadoc)
      * @see org.gabsocial.collection.Trie#contains(java.lang.String)
@@ -228,24 +631,77 @@ public class LinkedHashMapTrie extends LinkedHashMapTree<Character> implements T
         if (word == null || word.isEmpty())
             throw new IllegalArgumentException("word cannot be null or empty");
 
-        boolean isContained = false;
+        final TrieNode node = (TrieNode) LinkedHashMapTree.findCharPath(this.getRoot(), word);
+        return (node != null && node._isWord);
+    }
 
-        final int count = word.length();
-        TrieNode node = (TrieNode) this.getRoot();
-        for (int i = 0; i < count; ++i) {
-            final char character = word.charAt(i);
-            if (node.containsChild(character)) {
-                // if the character exists, then get that node.
-                // continue walking down the tree character by character.
-                node = (TrieNode) node.getChild(character);
-                isContained = node._isWord;
-            } else {
-                // if the character is not found. STOP.
-                isContained = false;
-                break;
-            }
+    /**
+     * Gets a <code>Stream</code> of all of the words that were added. The words are streamed in depth first order and
+     * the stream may be used in parallel. The Trie must not be modified while the stream is in use.
+     *
+     * @return A <code>Stream</code> instance of zero to many <code>String</code> instances.
+     */
+    @Override
+    public Stream<String> stream() {
+        return (TrieSpliterator.stream(ACCESSOR, (TrieNode) this.getRoot(), ""));
+    }
+
+    /**
+     * Gets a <code>Stream</code> of the words that start with the prefix. The words are streamed in depth first order
+     * and the stream may be used in parallel. The Trie must not be modified while the stream is in use.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>Stream</code> instance of zero to many <code>String</code> instances.
+     */
+    @Override
+    public Stream<String> stream(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        return (TrieSpliterator.stream(ACCESSOR, (TrieNode) this.getRoot(), prefix));
+    }
+
+    /**
+     * Gets a <code>Stream</code> of the words below a node that was found by getNode(prefix). The prefix is not walked
+     * again. The Trie must not be modified while the stream is in use.
+     *
+     * @param node
+     *            The node at the end of the prefix. May be null if the prefix is not contained.
+     * @param prefix
+     *            The prefix that the node was found by. May not be null.
+     *
+     * @return A <code>Stream</code> instance of zero to many <code>String</code> instances.
+     */
+    public Stream<String> stream(final TrieNode node, final CharSequence prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("prefix cannot be null");
         }
+        if (node == null) {
+            return (Stream.empty());
+        }
+        return (StreamSupport.stream(new TrieSpliterator<>(ACCESSOR, node, prefix.toString()), false));
+    }
+
+    /*
+     * Walks the prefix character by character. Returns the node of the last character or null if the prefix is not
+     * fully contained.
+     */
+    TrieNode findNode(final CharSequence prefix) {
+        assert (prefix != null) : "The parameter 'prefix' should not be null.";
+
+        return ((TrieNode) LinkedHashMapTree.findCharPath(this.getRoot(), prefix));
+    }
 
-        return (isContained);
+    /*
+     * Validates a word parameter.
+     */
+    private static void validateWord(final String word) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("word cannot be null or empty");
+        }
+        if (word.length() > MAX_WORD_LENGTH) { // Enforce a reasonable max length
+            throw new IllegalArgumentException("word length exceeds maximum allowed (100 characters)");
+        }
     }
 }
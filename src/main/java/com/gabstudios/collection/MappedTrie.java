@@ -0,0 +1,445 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A read-only Trie that answers queries directly from a file written by <code>MappedTrieWriter</code>. The file is
+ * memory mapped and never deserialized, so opening a dictionary costs one mmap and one sequential check of the nodes,
+ * and the pages are shared with every other process that maps the same file. A MappedTrie may be read by many threads.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+public class MappedTrie implements Trie {
+
+    /*
+     * Reads the nodes for the shared walks. A node is its offset in the file.
+     */
+    private final class NodeAccessor implements TrieNodeAccessor<Integer> {
+
+        @Override
+        public Integer findChild(final Integer offset, final int key) {
+            final int child = MappedTrie.this.findChild(offset, (char) key);
+            return (child < 0 ? null : child);
+        }
+
+        @Override
+        public Integer getChild(final Integer offset, final int index, final Integer next) {
+            return (MappedTrie.this.getChildOffset(offset, index));
+        }
+
+        @Override
+        public int getChildCount(final Integer offset) {
+            return (MappedTrie.this.getChildCount(offset));
+        }
+
+        @Override
+        public int getKey(final Integer offset, final int index, final Integer child) {
+            return (MappedTrie.this.getChildKey(offset, index));
+        }
+
+        @Override
+        public int getWordCount(final Integer offset) {
+            return (MappedTrie.this.getWordCount(offset));
+        }
+
+        @Override
+        public boolean isImmutable() {
+            return (true);
+        }
+
+        @Override
+        public boolean isWord(final Integer offset) {
+            return (MappedTrie.this.isWord(offset));
+        }
+    }
+
+    /*
+     * A reasonable max length for a word in the Trie.
+     */
+    private static final int MAX_WORD_LENGTH = 100;
+
+    /*
+     * Reads the nodes for the shared walks.
+     */
+    private final NodeAccessor _accessor;
+
+    /*
+     * The file contents. Only absolute reads are used so the buffer may be shared between threads.
+     */
+    private final ByteBuffer _buffer;
+
+    /*
+     * The offset of the root node.
+     */
+    private final int _rootOffset;
+
+    /*
+     * The number of nodes in the file.
+     */
+    private final int _nodeCount;
+
+    /**
+     * Opens a file written by <code>MappedTrieWriter</code>. The file is mapped read-only; it must not be changed while
+     * the MappedTrie is in use.
+     *
+     * @param path
+     *            The file to open. Must not be null.
+     *
+     * @return A <code>MappedTrie</code> instance.
+     *
+     * @throws IOException
+     *             if the file can not be read or is not a trie file.
+     */
+    public static MappedTrie open(final Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("The file '" + path + "' is too large to be a trie file");
+            }
+            // the mapping stays valid after the channel is closed.
+            return (new MappedTrie(channel.map(FileChannel.MapMode.READ_ONLY, 0, size)));
+        }
+    }
+
+    /**
+     * Constructor. Reads the Trie from a buffer that holds the file format written by <code>MappedTrieWriter</code>.
+     * The file is read from the position to the limit of the buffer; the position, limit and byte order of the buffer
+     * are not changed. Every node is checked once, so a truncated or corrupt file is reported here and not by a later
+     * query.
+     *
+     * @param buffer
+     *            The buffer holding the file contents. Must not be null.
+     *
+     * @throws IOException
+     *             if the buffer does not hold a trie file.
+     */
+    public MappedTrie(final ByteBuffer buffer) throws IOException {
+        if (buffer == null) {
+            throw new IllegalArgumentException("buffer cannot be null");
+        }
+
+        // the file is big-endian; a slice starts at the position of the caller's buffer and is big-endian.
+        this._accessor = new NodeAccessor();
+        this._buffer = buffer.slice();
+        if (this._buffer.limit() < MappedTrieWriter.HEADER_SIZE || this._buffer.getInt(0) != MappedTrieWriter.MAGIC) {
+            throw new IOException("The buffer does not hold a trie file");
+        }
+        if (this._buffer.getInt(4) != MappedTrieWriter.VERSION) {
+            throw new IOException("The trie file version " + this._buffer.getInt(4) + " is not supported");
+        }
+        this._nodeCount = this._buffer.getInt(12);
+        this._rootOffset = this._buffer.getInt(16);
+        this.validateNodes(this._buffer.getInt(8));
+    }
+
+    /**
+     * Not supported. A MappedTrie is read-only.
+     *
+     * @param word
+     *            Not used.
+     */
+    @Override
+    public void add(final String word) {
+        throw new UnsupportedOperationException("A MappedTrie is read-only");
+    }
+
+    /**
+     * Not supported. A MappedTrie is read-only.
+     *
+     * @param words
+     *            Not used.
+     */
+    @Override
+    public void addAll(final Collection<String> words) {
+        throw new UnsupportedOperationException("A MappedTrie is read-only");
+    }
+
+    /**
+     * Not supported. A MappedTrie is read-only.
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("A MappedTrie is read-only");
+    }
+
+    /**
+     * Not supported. A MappedTrie is read-only.
+     *
+     * @param word
+     *            Not used.
+     *
+     * @return Does not return.
+     */
+    @Override
+    public boolean remove(final String word) {
+        throw new UnsupportedOperationException("A MappedTrie is read-only");
+    }
+
+    /**
+     * Gets the number of words stored in the file. This is the word count of the root node so it is O(1).
+     *
+     * @return An integer value of 0 to n.
+     */
+    @Override
+    public int size() {
+        return (this.getWordCount(this._rootOffset));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.gabstudios.collection.Trie#contains(java.lang.String)
+     */
+    @Override
+    public boolean contains(final String word) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("word cannot be null or empty");
+        }
+
+        int offset = this._rootOffset;
+        final int count = word.length();
+        for (int i = 0; i < count && offset >= 0; ++i) {
+            offset = this.findChild(offset, word.charAt(i));
+        }
+        return (offset >= 0 && this.isWord(offset));
+    }
+
+    /*
+     * Finds the child of the node with the character. Returns -1 if it is not found.
+     */
+    private int findChild(final int offset, final char key) {
+        int low = 0;
+        int high = this.getChildCount(offset) - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final char middleKey = this.getChildKey(offset, middle);
+            if (middleKey < key) {
+                low = middle + 1;
+            } else if (middleKey > key) {
+                high = middle - 1;
+            } else {
+                return (this.getChildOffset(offset, middle));
+            }
+        }
+        return (-1);
+    }
+
+    private int getChildCount(final int offset) {
+        return (this._buffer.getChar(offset + 5));
+    }
+
+    private char getChildKey(final int offset, final int index) {
+        return (this._buffer
+                .getChar(offset + MappedTrieWriter.NODE_HEADER_SIZE + (index * MappedTrieWriter.CHILD_ENTRY_SIZE)));
+    }
+
+    private int getChildOffset(final int offset, final int index) {
+        return (this._buffer
+                .getInt(offset + MappedTrieWriter.NODE_HEADER_SIZE + (index * MappedTrieWriter.CHILD_ENTRY_SIZE) + 2));
+    }
+
+    /**
+     * Gets the number of nodes stored in the file, including the root.
+     *
+     * @return An integer value from 1 to n.
+     */
+    public int getNodeCount() {
+        return (this._nodeCount);
+    }
+
+    private int getWordCount(final int offset) {
+        return (this._buffer.getInt(offset + 1));
+    }
+
+    /**
+     * Gets all of the words in the Trie in sorted order.
+     *
+     * @return A <code>List</code> instance containing zero to many <code>String</code> instances.
+     */
+    @Override
+    public List<String> getWords() {
+        final List<String> words = new ArrayList<>(this.getWordCount(this._rootOffset));
+        this.stream().forEachOrdered(words::add);
+        return (words);
+    }
+
+    /**
+     * Gets words that are a close match to the prefix. The prefix is walked as far as it matches and the words below
+     * that point are returned in sorted order.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>List</code> instance containing zero to many <code>String</code> instances.
+     */
+    @Override
+    public List<String> getWords(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        return (TrieSpliterator.getCloseWords(this._accessor, this._rootOffset, prefix));
+    }
+
+    /**
+     * Counts the words that start with the prefix in O(length of the prefix). The count is read from the file.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return An integer value of 0 to n.
+     */
+    @Override
+    public int countWords(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        final Integer offset = this._accessor.walk(this._rootOffset, prefix);
+        return (offset == null ? 0 : this.getWordCount(offset));
+    }
+
+    /**
+     * Gets the only word that starts with the prefix. The word counts stored in the file tell if the word is unique, so
+     * nothing is enumerated.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return The word if exactly one word starts with the prefix, otherwise null.
+     */
+    @Override
+    public String getUniqueWord(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        final Integer node = this._accessor.walk(this._rootOffset, prefix);
+        if (node == null || this.getWordCount(node) != 1) {
+            return (null);
+        }
+
+        // a node with a single word below it is either the word or has a single child.
+        int offset = node;
+        final StringBuilder word = new StringBuilder(prefix);
+        while (!this.isWord(offset)) {
+            word.append(this.getChildKey(offset, 0));
+            offset = this.getChildOffset(offset, 0);
+        }
+        return (word.toString());
+    }
+
+    /**
+     * Gets the words that match a glob pattern, in sorted order. '?' matches any one character and '*' matches zero or
+     * more characters. The branches that can not match are not visited.
+     *
+     * @param glob
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>List</code> instance containing zero to many <code>String</code> instances.
+     */
+    @Override
+    public List<String> match(final String glob) {
+        GlobPattern.validate(glob, MAX_WORD_LENGTH);
+
+        return (new GlobPattern(glob).match(this._accessor, this._rootOffset));
+    }
+
+    private boolean isWord(final int offset) {
+        return ((this._buffer.get(offset) & MappedTrieWriter.WORD_FLAG) != 0);
+    }
+
+    /*
+     * Checks the nodes, which are written from the end of the header to the end of the root with the children before
+     * their parent. Every node must lie inside the buffer and every child offset must be the start of a node that was
+     * written before its parent, so a query never reads outside the buffer.
+     */
+    private void validateNodes(final int wordCount) throws IOException {
+        final int limit = this._buffer.limit();
+        if (this._rootOffset < MappedTrieWriter.HEADER_SIZE || this._rootOffset > limit) {
+            throw new IOException("The trie file is corrupt: the root is outside of the file");
+        }
+
+        final BitSet starts = new BitSet(this._rootOffset + 1);
+        int offset = MappedTrieWriter.HEADER_SIZE;
+        int count = 0;
+        while (true) {
+            if (offset > limit - MappedTrieWriter.NODE_HEADER_SIZE) {
+                throw new IOException("The trie file is corrupt: a node is outside of the file");
+            }
+            final int childCount = this.getChildCount(offset);
+            final long end = offset + MappedTrieWriter.NODE_HEADER_SIZE
+                    + ((long) childCount * MappedTrieWriter.CHILD_ENTRY_SIZE);
+            if (end > limit) {
+                throw new IOException("The trie file is corrupt: a node is outside of the file");
+            }
+            for (int i = 0; i < childCount; ++i) {
+                final int child = this.getChildOffset(offset, i);
+                if (child < MappedTrieWriter.HEADER_SIZE || child >= offset || !starts.get(child)) {
+                    throw new IOException("The trie file is corrupt: a child offset is not a node");
+                }
+            }
+            starts.set(offset);
+            ++count;
+            if (offset >= this._rootOffset) {
+                break;
+            }
+            offset = (int) end;
+        }
+
+        if (offset != this._rootOffset || count != this._nodeCount || this.getWordCount(offset) != wordCount) {
+            throw new IOException("The trie file is corrupt: the nodes do not match the header");
+        }
+    }
+
+    /**
+     * Gets a <code>Stream</code> of all of the words in sorted order. The stream may be used in parallel.
+     *
+     * @return A <code>Stream</code> instance of zero to many <code>String</code> instances.
+     */
+    @Override
+    public Stream<String> stream() {
+        return (TrieSpliterator.stream(this._accessor, this._rootOffset, ""));
+    }
+
+    /**
+     * Gets a <code>Stream</code> of the words that start with the prefix, in sorted order. The stream may be used in
+     * parallel.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>Stream</code> instance of zero to many <code>String</code> instances.
+     */
+    @Override
+    public Stream<String> stream(final String prefix) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+
+        return (TrieSpliterator.stream(this._accessor, this._rootOffset, prefix));
+    }
+}
@@ -0,0 +1,177 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes a Trie into the flat, offset based file format that is read by <code>MappedTrie</code>. The words are sorted
+ * and the nodes are written children first, so every child offset is known when its parent is written and the root is
+ * the last node in the file. The file starts with a header of five big-endian integers: the magic number, the format
+ * version, the number of words, the number of nodes and the offset of the root node. Each node is a flag byte (bit 0
+ * marks the end of a word), the number of words in its subtree as an integer, the number of children as an unsigned
+ * short and then one entry per child of the character and the integer offset of the child node, sorted by character.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+public final class MappedTrieWriter {
+
+    /*
+     * The magic number at the start of the file, "GTRI".
+     */
+    static final int MAGIC = 0x47545249;
+
+    /*
+     * The version of the file format.
+     */
+    static final int VERSION = 1;
+
+    /*
+     * The size of the header in bytes.
+     */
+    static final int HEADER_SIZE = 20;
+
+    /*
+     * The size of a node without its child entries: flags, word count and child count.
+     */
+    static final int NODE_HEADER_SIZE = 7;
+
+    /*
+     * The size of a child entry: character and offset.
+     */
+    static final int CHILD_ENTRY_SIZE = 6;
+
+    /*
+     * The flag that marks a node as the end of a word.
+     */
+    static final int WORD_FLAG = 0x01;
+
+    /*
+     * The output stream while the file is written.
+     */
+    private final DataOutputStream _output;
+
+    /*
+     * The number of nodes that were written.
+     */
+    private int _nodeCount;
+
+    /**
+     * Writes the words of the Trie into the file. An existing file is replaced.
+     *
+     * @param trie
+     *            The <code>Trie</code> to write. Must not be null.
+     * @param path
+     *            The file to write. Must not be null.
+     *
+     * @throws IOException
+     *             if the file can not be written or is larger than 2GB.
+     */
+    public static void write(final Trie trie, final Path path) throws IOException {
+        if (trie == null) {
+            throw new IllegalArgumentException("trie cannot be null");
+        }
+        if (path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+
+        final List<String> words = new ArrayList<>(trie.getWords());
+        Collections.sort(words);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+
+            // the header is written again when the offset of the root is known.
+            output.write(new byte[HEADER_SIZE]);
+
+            final MappedTrieWriter writer = new MappedTrieWriter(output);
+            final int rootOffset = writer.writeNode(words, 0, words.size(), 0);
+            output.flush();
+
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(words.size()).putInt(writer._nodeCount).putInt(rootOffset);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    /*
+     * Constructor.
+     */
+    private MappedTrieWriter(final DataOutputStream output) {
+        this._output = output;
+        this._nodeCount = 0;
+    }
+
+    /*
+     * Writes the node for the sorted words from 'from' to 'to', which all share the first 'depth' characters. Returns
+     * the offset of the node.
+     */
+    private int writeNode(final List<String> words, final int from, final int to, final int depth) throws IOException {
+        final boolean isWord = (from < to) && (words.get(from).length() == depth);
+        int start = isWord ? from + 1 : from;
+
+        // the sorted words are grouped by the character at the depth; each group is a child.
+        final List<Character> keys = new ArrayList<>();
+        final List<Integer> offsets = new ArrayList<>();
+        while (start < to) {
+            final char key = words.get(start).charAt(depth);
+            int end = start + 1;
+            while (end < to && words.get(end).charAt(depth) == key) {
+                ++end;
+            }
+            keys.add(key);
+            offsets.add(this.writeNode(words, start, end, depth + 1));
+            start = end;
+        }
+
+        final int offset = this._output.size();
+        if (offset < 0 || offset > Integer.MAX_VALUE - NODE_HEADER_SIZE - (keys.size() * CHILD_ENTRY_SIZE)) {
+            throw new IOException("The trie is too large for the file format (2GB maximum)");
+        }
+        if (keys.size() > 0xFFFF) {
+            throw new IOException("A node has more children than the file format supports (65535 maximum)");
+        }
+
+        this._output.writeByte(isWord ? WORD_FLAG : 0);
+        this._output.writeInt(to - from);
+        this._output.writeShort(keys.size());
+        for (int i = 0; i < keys.size(); ++i) {
+            this._output.writeChar(keys.get(i));
+            this._output.writeInt(offsets.get(i));
+        }
+        ++this._nodeCount;
+        return (offset);
+    }
+}
@@ -0,0 +1,409 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This is a Tree data structure whose nodes never change. An update copies only the nodes on the path from the root to
+ * the change and shares every other node with the previous version, then publishes the new root. A reader that holds a
+ * node, or a snapshot of the tree, always sees one complete version and never blocks or waits for a writer. Writers to
+ * the same tree are serialized.
+ * <p>
+ * Like <code>LinkedHashMapTree</code>, the data of siblings is unique and the order that children are added is kept.
+ * Nodes are found by the path of data from the root. The children of a node are held in an array, so a lookup is O(n)
+ * in the number of siblings; this suits trees of small fan-out such as command hierarchies.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ * @param <T>
+ *            This defines the class type of the data.
+ */
+public final class PersistentTree<T> {
+
+    /**
+     * A node of a <code>PersistentTree</code>. A node cannot be changed; an update creates new nodes.
+     *
+     * @author Gregory Brown (sysdevone)
+     *
+     * @param <T>
+     *            This defines the class type of the data.
+     */
+    public static final class Node<T> {
+
+        /*
+         * The shared array of a node that has no children.
+         */
+        private static final Node<?>[] NO_CHILDREN = new Node<?>[0];
+
+        /*
+         * The children in the order they were added. Never changed once the node is created.
+         */
+        private final Node<T>[] _children;
+
+        /*
+         * The data held in this node. Not null.
+         */
+        private final T _data;
+
+        /*
+         * The height of the subtree of this node. A leaf has a height of 0.
+         */
+        private final int _height;
+
+        /*
+         * The number of nodes in the subtree of this node, including this node.
+         */
+        private final int _subtreeSize;
+
+        /*
+         * Creates a node and calculates its size and height from the children.
+         */
+        private Node(final T data, final Node<T>[] children) {
+            assert (data != null) : "The parameter 'data' should not be null.";
+            assert (children != null) : "The parameter 'children' should not be null.";
+
+            this._data = data;
+            this._children = children;
+            int size = 1;
+            int height = 0;
+            for (final Node<T> child : children) {
+                size += child._subtreeSize;
+                height = Math.max(height, child._height + 1);
+            }
+            this._subtreeSize = size;
+            this._height = height;
+        }
+
+        /*
+         * Gets the array of a node that has no children.
+         */
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] noChildren() {
+            return ((Node<T>[]) NO_CHILDREN);
+        }
+
+        /**
+         * Gets the child that holds the data.
+         *
+         * @param data
+         *            The data of the child. May not be null.
+         *
+         * @return A <code>Node</code> instance or null if there is no such child.
+         */
+        public Node<T> getChild(final T data) {
+            if (data == null)
+                throw new IllegalArgumentException("data cannot be null");
+            final int index = this.indexOf(data);
+            return (index < 0 ? null : this._children[index]);
+        }
+
+        /**
+         * Gets the number of children of this node.
+         *
+         * @return An integer number of 0 to n.
+         */
+        public int getChildCount() {
+            return (this._children.length);
+        }
+
+        /**
+         * Gets the children of this node in the order they were added. The list cannot be changed and does not follow
+         * later versions of the tree.
+         *
+         * @return A <code>List</code> instance containing 0 to n <code>Node</code> instances.
+         */
+        public List<Node<T>> getChildren() {
+            return (Collections.unmodifiableList(Arrays.asList(this._children)));
+        }
+
+        /**
+         * Gets the data bound to the node.
+         *
+         * @return The data held in the node.
+         */
+        public T getData() {
+            return (this._data);
+        }
+
+        /**
+         * Gets the height of the subtree of this node.
+         *
+         * @return An integer of 0 to n. A leaf has a height of 0.
+         */
+        public int getHeight() {
+            return (this._height);
+        }
+
+        /**
+         * Gets the number of nodes in the subtree of this node, including this node.
+         *
+         * @return An integer value from 1 to n.
+         */
+        public int getSubtreeSize() {
+            return (this._subtreeSize);
+        }
+
+        /**
+         * Returns true if the node does not have children.
+         *
+         * @return True if the node has no children, otherwise false.
+         */
+        public boolean isLeaf() {
+            return (this._children.length == 0);
+        }
+
+        /*
+         * Finds the index of the child that holds the data.
+         */
+        private int indexOf(final T data) {
+            for (int i = 0; i < this._children.length; ++i) {
+                if (this._children[i]._data.equals(data)) {
+                    return (i);
+                }
+            }
+            return (-1);
+        }
+
+        /*
+         * Creates a copy of this node with the child added after the other children.
+         */
+        private Node<T> withChild(final Node<T> child) {
+            final Node<T>[] children = Arrays.copyOf(this._children, this._children.length + 1);
+            children[this._children.length] = child;
+            return (new Node<>(this._data, children));
+        }
+
+        /*
+         * Creates a copy of this node with the child at the index replaced.
+         */
+        private Node<T> withChild(final int index, final Node<T> child) {
+            final Node<T>[] children = this._children.clone();
+            children[index] = child;
+            return (new Node<>(this._data, children));
+        }
+
+        /*
+         * Creates a copy of this node without the child at the index.
+         */
+        private Node<T> withoutChild(final int index) {
+            final Node<T>[] children;
+            if (this._children.length == 1) {
+                children = noChildren();
+            } else {
+                children = Arrays.copyOf(this._children, this._children.length - 1);
+                System.arraycopy(this._children, index + 1, children, index, this._children.length - index - 1);
+            }
+            return (new Node<>(this._data, children));
+        }
+    }
+
+    /*
+     * The root of the current version. Published by a volatile write once an update is complete.
+     */
+    private volatile Node<T> _root;
+
+    /**
+     * Constructor of the Tree. A Tree must have one <code>Node</code> instance that is the root.
+     *
+     * @param data
+     *            The data of the root <code>Node</code> instance. May not be null.
+     */
+    public PersistentTree(final T data) {
+        if (data == null)
+            throw new IllegalArgumentException("data cannot be null");
+        this._root = new Node<>(data, Node.noChildren());
+    }
+
+    /*
+     * Creates a tree that starts at an existing version.
+     */
+    private PersistentTree(final Node<T> root) {
+        assert (root != null) : "The parameter 'root' should not be null.";
+        this._root = root;
+    }
+
+    /**
+     * Adds the nodes of a path below the root that do not exist yet. The path does not include the root.
+     *
+     * @param path
+     *            The data of each node from the child of the root down. May not be null or hold null.
+     *
+     * @return True if a node was added, false if the whole path already existed.
+     */
+    public synchronized boolean addPath(final Iterable<? extends T> path) {
+        if (path == null)
+            throw new IllegalArgumentException("path cannot be null");
+
+        final List<Node<T>> nodes = new ArrayList<>();
+        int[] indexes = new int[16];
+        final List<T> missing = new ArrayList<>();
+        Node<T> node = this._root;
+        nodes.add(node);
+        for (final T data : path) {
+            if (data == null)
+                throw new IllegalArgumentException("path cannot hold null");
+            if (missing.isEmpty()) {
+                final int index = node.indexOf(data);
+                if (index >= 0) {
+                    indexes = PersistentTree.addIndex(indexes, nodes.size() - 1, index);
+                    node = node._children[index];
+                    nodes.add(node);
+                    continue;
+                }
+            }
+            missing.add(data);
+        }
+        if (missing.isEmpty()) {
+            return (false);
+        }
+
+        // build the new branch from its leaf up, then hang it on a copy of the last existing node.
+        Node<T> branch = new Node<>(missing.get(missing.size() - 1), Node.noChildren());
+        for (int i = missing.size() - 2; i >= 0; --i) {
+            final Node<T>[] children = Arrays.copyOf(Node.<T> noChildren(), 1);
+            children[0] = branch;
+            branch = new Node<>(missing.get(i), children);
+        }
+        final Node<T> parent = nodes.get(nodes.size() - 1).withChild(branch);
+        this._root = copyPath(nodes, indexes, parent);
+        return (true);
+    }
+
+    /*
+     * Sets the index at a depth of the path, growing the array when it is full. Returns the array.
+     */
+    private static int[] addIndex(final int[] indexes, final int depth, final int index) {
+        final int[] array = (depth == indexes.length) ? Arrays.copyOf(indexes, depth * 2) : indexes;
+        array[depth] = index;
+        return (array);
+    }
+
+    /*
+     * Copies the nodes from the parent of the changed node up to the root. The last of the nodes is replaced by the
+     * changed node, and each index is the position of the next node within its parent.
+     */
+    private static <T> Node<T> copyPath(final List<Node<T>> nodes, final int[] indexes, final Node<T> changed) {
+        Node<T> replacement = changed;
+        for (int i = nodes.size() - 2; i >= 0; --i) {
+            replacement = nodes.get(i).withChild(indexes[i], replacement);
+        }
+        return (replacement);
+    }
+
+    /**
+     * Finds the node at the end of a path below the root.
+     *
+     * @param path
+     *            The data of each node from the child of the root down. May not be null. An empty path finds the root.
+     *
+     * @return A <code>Node</code> instance or null if the path does not exist.
+     */
+    public Node<T> findPath(final Iterable<? extends T> path) {
+        if (path == null)
+            throw new IllegalArgumentException("path cannot be null");
+
+        Node<T> node = this._root;
+        for (final T data : path) {
+            node = node.getChild(data);
+            if (node == null) {
+                break;
+            }
+        }
+        return (node);
+    }
+
+    /**
+     * Gets the height of the current version of the tree.
+     *
+     * @return An integer of 0 to n.
+     */
+    public int getHeight() {
+        return (this._root.getHeight());
+    }
+
+    /**
+     * Gets the number of nodes in the current version of the tree.
+     *
+     * @return An integer value from 1 to n.
+     */
+    public int getNodeCount() {
+        return (this._root.getSubtreeSize());
+    }
+
+    /**
+     * Gets the root node of the current version. The node and everything below it never change.
+     *
+     * @return The <code>Node</code> instance that is the root.
+     */
+    public Node<T> getRoot() {
+        return (this._root);
+    }
+
+    /**
+     * Removes the node at the end of a path below the root, with its subtree.
+     *
+     * @param path
+     *            The data of each node from the child of the root down. May not be null or empty.
+     *
+     * @return True if the node was removed, false if the path does not exist.
+     */
+    public synchronized boolean removePath(final Iterable<? extends T> path) {
+        if (path == null)
+            throw new IllegalArgumentException("path cannot be null");
+
+        final List<Node<T>> nodes = new ArrayList<>();
+        int[] indexes = new int[16];
+        Node<T> node = this._root;
+        nodes.add(node);
+        for (final T data : path) {
+            if (data == null)
+                throw new IllegalArgumentException("path cannot hold null");
+            final int index = node.indexOf(data);
+            if (index < 0) {
+                return (false);
+            }
+            indexes = PersistentTree.addIndex(indexes, nodes.size() - 1, index);
+            node = node._children[index];
+            nodes.add(node);
+        }
+        if (nodes.size() == 1)
+            throw new IllegalArgumentException("path cannot be empty");
+
+        // the removed node's parent is the last node that changes.
+        nodes.remove(nodes.size() - 1);
+        final Node<T> parent = nodes.get(nodes.size() - 1).withoutChild(indexes[nodes.size() - 1]);
+        this._root = copyPath(nodes, indexes, parent);
+        return (true);
+    }
+
+    /**
+     * Takes a snapshot of the current version in O(1). The snapshot shares every node with this tree. Later updates to
+     * this tree are not seen by the snapshot, and updates to the snapshot are not seen by this tree.
+     *
+     * @return A <code>PersistentTree</code> instance.
+     */
+    public PersistentTree<T> snapshot() {
+        return (new PersistentTree<>(this._root));
+    }
+}
@@ -0,0 +1,157 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts the data of a tree node to and from bytes for <code>TreeSerializer</code>. The serializer stores the length
+ * of each encoded value, so a codec does not write its own length or separator. Codecs for <code>Character</code>,
+ * <code>Integer</code> and <code>String</code> data are provided.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ * @param <T>
+ *            This defines the class type of the data.
+ */
+public interface TreeCodec<T> {
+
+    /**
+     * Encodes a <code>Character</code> as two bytes.
+     */
+    public static final TreeCodec<Character> CHARACTER = new TreeCodec<>() {
+        @Override
+        public Character decode(final ByteBuffer buffer, final int length) {
+            return (buffer.getChar());
+        }
+
+        @Override
+        public void encode(final Character data, final ByteBuffer buffer) {
+            buffer.putChar(data);
+        }
+
+        @Override
+        public int encodedSize(final Character data) {
+            return (Character.BYTES);
+        }
+    };
+
+    /**
+     * Encodes an <code>Integer</code> as four bytes.
+     */
+    public static final TreeCodec<Integer> INTEGER = new TreeCodec<>() {
+        @Override
+        public Integer decode(final ByteBuffer buffer, final int length) {
+            return (buffer.getInt());
+        }
+
+        @Override
+        public void encode(final Integer data, final ByteBuffer buffer) {
+            buffer.putInt(data);
+        }
+
+        @Override
+        public int encodedSize(final Integer data) {
+            return (Integer.BYTES);
+        }
+    };
+
+    /**
+     * Encodes a <code>String</code> as UTF-8.
+     */
+    public static final TreeCodec<String> STRING = new TreeCodec<>() {
+        @Override
+        public String decode(final ByteBuffer buffer, final int length) {
+            final String data;
+            if (buffer.hasArray()) {
+                data = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                        StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            } else {
+                final byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                data = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return (data);
+        }
+
+        @Override
+        public void encode(final String data, final ByteBuffer buffer) {
+            buffer.put(data.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int encodedSize(final String data) {
+            // count the UTF-8 bytes without encoding the string.
+            int size = 0;
+            final int length = data.length();
+            for (int i = 0; i < length; ++i) {
+                final char character = data.charAt(i);
+                if (character < 0x80) {
+                    ++size;
+                } else if (character < 0x800) {
+                    size += 2;
+                } else if (Character.isHighSurrogate(character) && i + 1 < length
+                        && Character.isLowSurrogate(data.charAt(i + 1))) {
+                    size += 4;
+                    ++i;
+                } else {
+                    // a lone surrogate is encoded as the one byte '?'.
+                    size += Character.isSurrogate(character) ? 1 : 3;
+                }
+            }
+            return (size);
+        }
+    };
+
+    /**
+     * Reads the data of a node.
+     *
+     * @param buffer
+     *            The buffer positioned at the encoded data. At least <code>length</code> bytes are remaining.
+     * @param length
+     *            The number of bytes that were written by encode. The codec must read exactly this many bytes.
+     *
+     * @return The data. Must not be null.
+     */
+    public T decode(ByteBuffer buffer, int length);
+
+    /**
+     * Writes the data of a node.
+     *
+     * @param data
+     *            The data to write. Not null.
+     * @param buffer
+     *            The buffer to write into. At least encodedSize(data) bytes are remaining. The codec must write exactly
+     *            that many bytes.
+     */
+    public void encode(T data, ByteBuffer buffer);
+
+    /**
+     * Gets the number of bytes that encode writes for the data.
+     *
+     * @param data
+     *            The data to write. Not null.
+     *
+     * @return An integer value of 0 to n.
+     */
+    public int encodedSize(T data);
+}
@@ -0,0 +1,387 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import com.gabstudios.collection.LinkedHashMapTree.Node;
+
+/**
+ * Writes a <code>LinkedHashMapTree</code> to a channel and reads it back. The data of the nodes is converted by a
+ * <code>TreeCodec</code>. The format starts with a header of three big-endian integers: the magic number, the format
+ * version and the number of nodes. Then each node follows in pre-order as its number of children and the length of its
+ * encoded data, both as unsigned variable-length integers, and the encoded data.
+ * <p>
+ * Both directions stream through a fixed buffer, so a tree of any size is written and read without holding its bytes in
+ * memory. A tree is read without walking up to the root for every node, and the child map of each node is created at
+ * the size of its stored child count, so reading a tree is much faster than adding its paths again.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+public final class TreeSerializer {
+
+    /*
+     * The magic number at the start of the data, "GTRE".
+     */
+    static final int MAGIC = 0x47545245;
+
+    /*
+     * The version of the format.
+     */
+    static final int VERSION = 1;
+
+    /*
+     * The size of the header in bytes.
+     */
+    private static final int HEADER_SIZE = 12;
+
+    /*
+     * The size of the buffer that the data streams through.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /*
+     * The largest number of bytes of a variable-length integer.
+     */
+    private static final int MAX_VARINT_SIZE = 5;
+
+    /*
+     * The largest number of children that the child index of a node is created for before they are read. The count
+     * comes from the data, so a corrupt count can not allocate more than this; a node with more children grows its
+     * index as they are added.
+     */
+    private static final int MAX_PRESIZE = 4096;
+
+    private static final String CORRUPT_ERROR = "The tree data is corrupt";
+
+    /*
+     * The buffer while the data is read.
+     */
+    private ByteBuffer _buffer;
+
+    /*
+     * The channel that is read.
+     */
+    private final ReadableByteChannel _channel;
+
+    /*
+     * A reader is created by read().
+     */
+    private TreeSerializer(final ReadableByteChannel channel) {
+        this._channel = channel;
+        this._buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this._buffer.flip();
+    }
+
+    /*
+     * Makes sure that the buffer has at least the number of bytes remaining, reading more from the channel.
+     */
+    private void ensure(final int count) throws IOException {
+        if (this._buffer.remaining() >= count) {
+            return;
+        }
+
+        if (this._buffer.capacity() < count) {
+            final ByteBuffer larger = ByteBuffer.allocate(count);
+            larger.put(this._buffer);
+            this._buffer = larger;
+        } else {
+            this._buffer.compact();
+        }
+        while (this._buffer.position() < count) {
+            if (this._channel.read(this._buffer) < 0) {
+                throw new IOException(CORRUPT_ERROR + ": the data ended early");
+            }
+        }
+        this._buffer.flip();
+    }
+
+    /*
+     * Reads the data of one node.
+     */
+    private <T> T readData(final TreeCodec<T> codec) throws IOException {
+        final int length = this.readVarint();
+        this.ensure(length);
+
+        final int end = this._buffer.position() + length;
+        final T data = codec.decode(this._buffer, length);
+        if (data == null || this._buffer.position() != end) {
+            throw new IOException(CORRUPT_ERROR + ": the codec did not read the data of a node");
+        }
+        return (data);
+    }
+
+    /*
+     * Reads an unsigned variable-length integer of 7 bits per byte, low bits first.
+     */
+    private int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0;; shift += 7) {
+            this.ensure(1);
+            final int next = this._buffer.get() & 0xFF;
+            // the last byte holds only the top 3 bits of a non-negative int and ends the integer.
+            if (shift == 7 * (MAX_VARINT_SIZE - 1) && next > 0x07) {
+                throw new IOException(CORRUPT_ERROR + ": a count is out of range");
+            }
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return (value);
+            }
+        }
+    }
+
+    /*
+     * Reads the nodes in pre-order. The stack holds the nodes whose children are still being read and the number of
+     * children that each still has to read. A node's children are added without updating its ancestors; once they are
+     * all read, the size and height of the node are calculated from them.
+     */
+    private <T> LinkedHashMapTree<T> readTree(final TreeCodec<T> codec) throws IOException {
+        this.ensure(HEADER_SIZE);
+        if (this._buffer.getInt() != MAGIC) {
+            throw new IOException("The data does not hold a tree");
+        }
+        final int version = this._buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("The tree data version " + version + " is not supported");
+        }
+        final int nodeCount = this._buffer.getInt();
+        if (nodeCount < 1) {
+            throw new IOException(CORRUPT_ERROR + ": the node count is " + nodeCount);
+        }
+
+        int rootChildCount = this.readVarint();
+        final LinkedHashMapTree<T> tree = new LinkedHashMapTree<>(this.readData(codec));
+        int nodesRead = 1;
+
+        @SuppressWarnings("unchecked")
+        Node<T>[] nodes = (Node<T>[]) new Node<?>[64];
+        int[] remaining = new int[64];
+        int depth = 0;
+
+        Node<T> node = tree.getRoot();
+        int childCount = rootChildCount;
+        while (true) {
+            if (childCount > nodeCount - nodesRead) {
+                throw new IOException(CORRUPT_ERROR + ": a node has more children than the tree has nodes");
+            }
+            node.presizeChildren(Math.min(childCount, MAX_PRESIZE));
+            if (depth == nodes.length) {
+                nodes = Arrays.copyOf(nodes, depth * 2);
+                remaining = Arrays.copyOf(remaining, depth * 2);
+            }
+            nodes[depth] = node;
+            remaining[depth] = childCount;
+            ++depth;
+
+            // finish the nodes whose children are all read.
+            while (depth > 0 && remaining[depth - 1] == 0) {
+                --depth;
+                nodes[depth].updateSubtree();
+                nodes[depth] = null;
+            }
+            if (depth == 0) {
+                break;
+            }
+
+            final Node<T> parent = nodes[depth - 1];
+            --remaining[depth - 1];
+            childCount = this.readVarint();
+            node = parent.addChild(this.readData(codec), parent);
+            if (node == null) {
+                throw new IOException(CORRUPT_ERROR + ": a node has two children with the same data");
+            }
+            ++nodesRead;
+        }
+
+        if (nodesRead != nodeCount) {
+            throw new IOException(CORRUPT_ERROR + ": " + nodesRead + " of " + nodeCount + " nodes were read");
+        }
+        return (tree);
+    }
+
+    /**
+     * Reads a tree from a file.
+     *
+     * @param path
+     *            The path of the file. May not be null.
+     * @param codec
+     *            The codec of the data. May not be null.
+     * @param <T>
+     *            The class type of the data.
+     *
+     * @return A <code>LinkedHashMapTree</code> instance.
+     *
+     * @throws IOException
+     *             If the file cannot be read or does not hold a tree.
+     */
+    public static <T> LinkedHashMapTree<T> read(final Path path, final TreeCodec<T> codec) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return (TreeSerializer.read(channel, codec));
+        }
+    }
+
+    /**
+     * Reads a tree from a channel. The channel is read up to the end of the tree and is not closed.
+     *
+     * @param channel
+     *            The channel to read. May not be null.
+     * @param codec
+     *            The codec of the data. May not be null.
+     * @param <T>
+     *            The class type of the data.
+     *
+     * @return A <code>LinkedHashMapTree</code> instance.
+     *
+     * @throws IOException
+     *             If the channel cannot be read or does not hold a tree.
+     */
+    public static <T> LinkedHashMapTree<T> read(final ReadableByteChannel channel, final TreeCodec<T> codec)
+            throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("channel cannot be null");
+        }
+        if (codec == null) {
+            throw new IllegalArgumentException("codec cannot be null");
+        }
+
+        return (new TreeSerializer(channel).readTree(codec));
+    }
+
+    /**
+     * Writes a tree to a file. The file is created or replaced.
+     *
+     * @param tree
+     *            The tree to write. May not be null.
+     * @param codec
+     *            The codec of the data. May not be null.
+     * @param path
+     *            The path of the file. May not be null.
+     * @param <T>
+     *            The class type of the data.
+     *
+     * @throws IOException
+     *             If the file cannot be written.
+     */
+    public static <T> void write(final LinkedHashMapTree<T> tree, final TreeCodec<? super T> codec, final Path path)
+            throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            TreeSerializer.write(tree, codec, channel);
+        }
+    }
+
+    /**
+     * Writes a tree to a channel. The channel is not closed.
+     *
+     * @param tree
+     *            The tree to write. May not be null.
+     * @param codec
+     *            The codec of the data. May not be null.
+     * @param channel
+     *            The channel to write. May not be null.
+     * @param <T>
+     *            The class type of the data.
+     *
+     * @throws IOException
+     *             If the channel cannot be written.
+     */
+    public static <T> void write(final LinkedHashMapTree<T> tree, final TreeCodec<? super T> codec,
+            final WritableByteChannel channel) throws IOException {
+        if (tree == null) {
+            throw new IllegalArgumentException("tree cannot be null");
+        }
+        if (codec == null) {
+            throw new IllegalArgumentException("codec cannot be null");
+        }
+        if (channel == null) {
+            throw new IllegalArgumentException("channel cannot be null");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(tree.getNodeCount());
+
+        final Iterator<Node<T>> iterator = tree.getRoot().preOrderIterator();
+        while (iterator.hasNext()) {
+            final Node<T> node = iterator.next();
+            final T data = node.getData();
+            final int size = codec.encodedSize(data);
+            final int needed = 2 * MAX_VARINT_SIZE + size;
+            if (buffer.remaining() < needed) {
+                TreeSerializer.flush(buffer, channel);
+                if (buffer.capacity() < needed) {
+                    buffer = ByteBuffer.allocate(needed);
+                }
+            }
+
+            TreeSerializer.writeVarint(buffer, node.getChildCount());
+            TreeSerializer.writeVarint(buffer, size);
+            final int end = buffer.position() + size;
+            codec.encode(data, buffer);
+            if (buffer.position() != end) {
+                throw new IllegalStateException(
+                        "The codec wrote " + (buffer.position() + size - end) + " bytes instead of " + size);
+            }
+        }
+        TreeSerializer.flush(buffer, channel);
+    }
+
+    /*
+     * Writes the buffer to the channel and clears it.
+     */
+    private static void flush(final ByteBuffer buffer, final WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /*
+     * Writes an unsigned variable-length integer of 7 bits per byte, low bits first.
+     */
+    private static void writeVarint(final ByteBuffer buffer, final int value) {
+        assert (value >= 0) : "The parameter 'value' should not be negative.";
+
+        int rest = value;
+        while ((rest & ~0x7F) != 0) {
+            buffer.put((byte) ((rest & 0x7F) | 0x80));
+            rest >>>= 7;
+        }
+        buffer.put((byte) rest);
+    }
+}
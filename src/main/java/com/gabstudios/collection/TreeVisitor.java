@@ -0,0 +1,45 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import com.gabstudios.collection.LinkedHashMapTree.Node;
+
+/**
+ * A callback that is passed each node of a <code>LinkedHashMapTree</code> during a walk. The walk stops as soon as the
+ * visitor returns false, so a search does not have to visit the rest of the tree.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ * @param <T>
+ *            This defines the class type of the data.
+ */
+public interface TreeVisitor<T> {
+    /**
+     * Visits a node.
+     *
+     * @param node
+     *            The <code>Node</code> instance that is visited.
+     * @param depth
+     *            The depth of the node below the node that the walk started at, which has a depth of 0.
+     *
+     * @return A boolean value of true to continue the walk, otherwise false to stop it.
+     */
+    public boolean visit(Node<T> node, int depth);
+}
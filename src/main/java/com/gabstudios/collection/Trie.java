@@ -19,7 +19,9 @@
 
 package com.gabstudios.collection;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * A Trie interface.
@@ -45,6 +47,42 @@ public abstract interface Trie {
      */
     public abstract List<String> getWords();
 
+    /**
+     * Counts the words that start with the prefix. The prefix must be fully matched, the same as stream(prefix). The
+     * number of words below each node is kept, so the count is found by walking the prefix only.
+     *
+     * @param prefix
+     *            A <code>String</code>instance. Must not be null or empty.
+     *
+     * @return An integer value of 0 to n.
+     */
+    public int countWords(String prefix);
+
+    /**
+     * Gets the only word that starts with the prefix. This resolves an abbreviation such as "-verb" to "-verbose". The
+     * prefix must be fully matched and the number of words below each node is kept, so the answer is found in one walk
+     * of the prefix and the completion.
+     *
+     * @param prefix
+     *            A <code>String</code>instance. Must not be null or empty.
+     *
+     * @return The word if exactly one word starts with the prefix. Null is returned if no word or more than one word
+     *         starts with the prefix.
+     */
+    public String getUniqueWord(String prefix);
+
+    /**
+     * Gets the words that match a glob pattern such as "-log*", "*file" or "-l?gger". '?' matches any one character and
+     * '*' matches zero or more characters. The pattern is matched while the Trie is walked, so the branches that can
+     * not match are not visited.
+     *
+     * @param glob
+     *            A <code>String</code>instance. Must not be null or empty.
+     *
+     * @return A <code>List</code> instance containing the matching words. May be empty if words were not found.
+     */
+    public List<String> match(String glob);
+
     /**
      * Determines if a word is contained in the Trie.
      *
@@ -63,8 +101,54 @@ public abstract interface Trie {
      */
     public void add(String word);
 
+    /**
+     * Adds many words to the Trie. The words are validated before any is added. An implementation may build the words
+     * in parallel, so this is faster than calling add(word) for each word when a large dictionary is loaded.
+     *
+     * @param words
+     *            The words to add to the Trie. Must not be null and each word must not be null or empty.
+     */
+    public void addAll(Collection<String> words);
+
+    /**
+     * Removes a word from the Trie. Nodes that are no longer part of any word are pruned.
+     *
+     * @param word
+     *            The word to remove. Must not be null or empty.
+     *
+     * @return A boolean value of true if the word was removed, otherwise it is false if it was not contained.
+     */
+    public boolean remove(String word);
+
+    /**
+     * Gets the number of words contained in the Trie.
+     *
+     * @return An integer value of 0 to n.
+     */
+    public int size();
+
     /**
      * Used to clear and reset the Trie.
      */
     public void clear();
+
+    /**
+     * Gets a <code>Stream</code> of all words contained in the Trie. The stream is backed by a <code>Spliterator</code>
+     * that splits at child subtree boundaries, so it can be used with parallel pipelines.
+     *
+     * @return A <code>Stream</code> instance of String words. May be empty if words were not found.
+     */
+    public Stream<String> stream();
+
+    /**
+     * Gets a <code>Stream</code> of the words that start with the prefix. Unlike getWords(prefix) the prefix must be
+     * fully matched; if the dictionary includes "he", "hello" and "helloworld" then the prefix "hell" streams "hello"
+     * and "helloworld" while the prefix "hel111" streams nothing.
+     *
+     * @param prefix
+     *            A <code>String</code>instance. Must not be null or empty.
+     *
+     * @return A <code>Stream</code> instance of String words. May be empty if words were not found.
+     */
+    public Stream<String> stream(String prefix);
 }
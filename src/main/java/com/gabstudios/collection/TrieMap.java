@@ -0,0 +1,210 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Trie that maps every word to a value. The value is held by the node of the last character of the word, so a word is
+ * stored once and serves both the exact lookup of its value and the prefix queries of the Trie: suggestions,
+ * abbreviations, counts and patterns. A TrieMap is a <code>WeightedTrie</code>, so the words may also be ranked by
+ * usage.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ * @param <V>
+ *            This defines the class type of the values.
+ */
+public class TrieMap<V> extends WeightedTrie {
+
+    /**
+     * The node within a TrieMap. Holds the value of the word that ends at the node.
+     *
+     * @author Gregory Brown (sysdevone)
+     *
+     * @param <V>
+     *            This defines the class type of the value.
+     */
+    public static class TrieMapNode<V> extends WeightedTrieNode {
+        /*
+         * The value of the word that ends at this node. Null if the node is not the end of a word.
+         */
+        private V _value;
+
+        /**
+         * @param tree
+         *            The tree that this node is part of.
+         * @param data
+         *            A <code>Character</code> instance.
+         */
+        protected TrieMapNode(final TrieMap<V> tree, final Character data) {
+            super(tree, data);
+            this._value = null;
+        }
+
+        /**
+         * Gets the value of the word that ends at this node.
+         *
+         * @return The value. May be null if the node is not the end of a word.
+         */
+        public V getValue() {
+            return (this._value);
+        }
+    }
+
+    /**
+     * Constructor. The weights do not decay.
+     */
+    public TrieMap() {
+        super();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param decay
+     *            The factor that the weight of every word is multiplied by when another word is incremented. Must be
+     *            greater than 0 and less than or equal to 1.
+     */
+    public TrieMap(final double decay) {
+        super(decay);
+    }
+
+    /*
+     * A factory helper method that creates the <code>Node</code> implementation.
+     * @return The <code>Node</code> instance that was created.
+     */
+    @Override
+    protected TrieMapNode<V> createNode(final Character data) {
+        assert (data != null) : "Not able to create Node.  The parameter 'data' should not be null.";
+        final TrieMapNode<V> node = new TrieMapNode<>(this, data);
+        return (node);
+    }
+
+    /**
+     * Gets the value of a word. The word is walked character by character, so any <code>CharSequence</code> may be used
+     * without creating a <code>String</code>.
+     *
+     * @param word
+     *            A <code>CharSequence</code> instance. May not be null or empty.
+     *
+     * @return The value. Null is returned if the word is not contained.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final CharSequence word) {
+        if (word == null || word.length() == 0) {
+            throw new IllegalArgumentException("word cannot be null or empty");
+        }
+
+        final TrieMapNode<V> node = (TrieMapNode<V>) this.findNode(word);
+        return (node == null ? null : node._value);
+    }
+
+    /**
+     * Gets the words that start with the prefix together with their values, in the order of the Trie. The prefix must
+     * be fully matched.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>List</code> instance containing zero to many entries of a word and its value.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map.Entry<String, V>> prefixEntries(final String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            throw new IllegalArgumentException("prefix cannot be null or empty");
+        }
+
+        final List<Map.Entry<String, V>> entries = new ArrayList<>();
+        final TrieMapNode<V> start = (TrieMapNode<V>) this.findNode(prefix);
+        if (start == null) {
+            return (entries);
+        }
+
+        final ArrayDeque<TrieMapNode<V>> stack = new ArrayDeque<>();
+        final ArrayDeque<String> prefixStack = new ArrayDeque<>();
+        stack.push(start);
+        prefixStack.push(prefix);
+        while (!stack.isEmpty()) {
+            final TrieMapNode<V> node = stack.pop();
+            final String word = prefixStack.pop();
+            if (node.isWord()) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(word, node._value));
+            }
+
+            final List<Node<Character>> children = node.getChildren();
+            for (int i = children.size() - 1; i >= 0; --i) {
+                final TrieMapNode<V> child = (TrieMapNode<V>) children.get(i);
+                stack.push(child);
+                prefixStack.push(word + child.getData());
+            }
+        }
+        return (entries);
+    }
+
+    /**
+     * Maps a word to a value. The word is added if it is not contained.
+     *
+     * @param word
+     *            A <code>String</code> instance. May not be null or empty.
+     * @param value
+     *            The value of the word. May not be null.
+     *
+     * @return The previous value of the word. Null is returned if the word was not contained.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final String word, final V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value cannot be null");
+        }
+
+        this.add(word);
+        final TrieMapNode<V> node = (TrieMapNode<V>) this.findNode(word);
+        final V previous = node._value;
+        node._value = value;
+        return (previous);
+    }
+
+    /**
+     * Removes a word and its value from the Trie.
+     *
+     * @param word
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A boolean value of true if the word was removed, otherwise it is false if it was not contained.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(final String word) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("word cannot be null or empty");
+        }
+
+        final TrieMapNode<V> node = (TrieMapNode<V>) this.findNode(word);
+        if (node != null) {
+            node._value = null;
+        }
+        return (super.remove(word));
+    }
+}
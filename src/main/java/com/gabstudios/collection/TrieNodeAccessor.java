@@ -0,0 +1,226 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.BitSet;
+
+/**
+ * Reads the nodes of one kind of Trie for the walks that every Trie shares: <code>TrieSpliterator</code>, the glob walk
+ * of <code>GlobPattern</code> and the prefix walk. A Trie supplies only how its nodes are navigated; the walks do not
+ * know how the nodes are stored.
+ * <p>
+ * A key is a <code>char</code>, or a code point for a Trie that is keyed by code points. The walks read the children of
+ * a node from the last to the first, because they push them in front of the pending work. The child after the one that
+ * is read is passed as well, so a node that links its children as siblings reads each child in O(1) while a node that
+ * holds them in an array reads it by the index.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ * @param <N>
+ *            This defines the class type of the nodes.
+ */
+interface TrieNodeAccessor<N> {
+
+    /**
+     * Validates a prefix parameter.
+     *
+     * @param prefix
+     *            The prefix to validate.
+     * @param maxLength
+     *            The maximum length of the prefix.
+     */
+    static void validatePrefix(final CharSequence prefix, final int maxLength) {
+        if (prefix == null || prefix.isEmpty()) {
+            throw new IllegalArgumentException("prefix cannot be null or empty");
+        }
+        if (prefix.length() > maxLength) { // Enforce a reasonable max length
+            throw new IllegalArgumentException("prefix length exceeds maximum allowed (" + maxLength + " characters)");
+        }
+    }
+
+    /**
+     * Adds a key to the path of a node to get the path of its child.
+     *
+     * @param path
+     *            The keys from the root to the node.
+     * @param key
+     *            The key of the child.
+     *
+     * @return The path of the child.
+     */
+    default String appendKey(final String path, final int key) {
+        return (path + (char) key);
+    }
+
+    /**
+     * Finds the child of a node that has the key.
+     *
+     * @param node
+     *            The node.
+     * @param key
+     *            The key of the child.
+     *
+     * @return The child, or null if the node has no child with the key.
+     */
+    N findChild(N node, int key);
+
+    /**
+     * Gets a child of a node.
+     *
+     * @param node
+     *            The node.
+     * @param index
+     *            The index of the child, from 0 to getChildCount(node) - 1.
+     * @param next
+     *            The child at index + 1, or null if the index is of the last child.
+     *
+     * @return The child.
+     */
+    N getChild(N node, int index, N next);
+
+    /**
+     * Gets the number of children of a node.
+     *
+     * @param node
+     *            The node.
+     *
+     * @return An integer value of 0 to n.
+     */
+    int getChildCount(N node);
+
+    /**
+     * Gets the key of a child of a node.
+     *
+     * @param node
+     *            The node.
+     * @param index
+     *            The index of the child.
+     * @param child
+     *            The child at the index.
+     *
+     * @return The key of the child.
+     */
+    int getKey(N node, int index, N child);
+
+    /**
+     * Gets the key of a prefix at an index.
+     *
+     * @param prefix
+     *            The prefix.
+     * @param index
+     *            The index of the first character of the key.
+     *
+     * @return The key.
+     */
+    default int getKey(final String prefix, final int index) {
+        return (prefix.charAt(index));
+    }
+
+    /**
+     * Gets the word that ends at a node.
+     *
+     * @param node
+     *            A node that is the end of a word.
+     * @param path
+     *            The keys from the root to the node.
+     *
+     * @return The word.
+     */
+    default String getWord(final N node, final String path) {
+        return (path);
+    }
+
+    /**
+     * Gets the number of words in the subtree of a node, including the node if it is the end of a word.
+     *
+     * @param node
+     *            The node.
+     *
+     * @return An integer value of 0 to n.
+     */
+    int getWordCount(N node);
+
+    /**
+     * Determines if the nodes can not change, so the words that are walked are a fixed set.
+     *
+     * @return A boolean value of true if the nodes can not change, otherwise it is false.
+     */
+    default boolean isImmutable() {
+        return (false);
+    }
+
+    /**
+     * Determines if a node is the end of a word.
+     *
+     * @param node
+     *            The node.
+     *
+     * @return A boolean value of true if the node is the end of a word, otherwise it is false.
+     */
+    boolean isWord(N node);
+
+    /**
+     * Gets the index after the key of a prefix.
+     *
+     * @param prefix
+     *            The prefix.
+     * @param index
+     *            The index of the first character of the key.
+     *
+     * @return The index of the next key.
+     */
+    default int nextIndex(final String prefix, final int index) {
+        return (index + 1);
+    }
+
+    /**
+     * Walks a prefix from a node.
+     *
+     * @param node
+     *            The node to start at.
+     * @param prefix
+     *            The prefix.
+     *
+     * @return The node of the last key of the prefix, or null if the prefix is not fully contained.
+     */
+    default N walk(final N node, final String prefix) {
+        N current = node;
+        for (int index = 0; index < prefix.length() && current != null; index = this.nextIndex(prefix, index)) {
+            current = this.findChild(current, this.getKey(prefix, index));
+        }
+        return (current);
+    }
+
+    /**
+     * Steps the states of a glob pattern over a key.
+     *
+     * @param pattern
+     *            The pattern.
+     * @param states
+     *            The current states. Not changed.
+     * @param key
+     *            The key.
+     *
+     * @return The states after the key.
+     */
+    default BitSet step(final GlobPattern pattern, final BitSet states, final int key) {
+        return (pattern.step(states, (char) key));
+    }
+}
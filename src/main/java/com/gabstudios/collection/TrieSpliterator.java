@@ -0,0 +1,233 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A <code>Spliterator</code> over the words of the subtree of a Trie node. The nodes are read through a
+ * <code>TrieNodeAccessor</code>, so every kind of Trie shares this one spliterator. The pending work is held as a deque
+ * of whole subtrees, so a split hands off complete child subtrees and the size is known exactly from the word counts of
+ * the nodes. A Trie whose nodes can change must not be modified while the spliterator is in use.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ * @param <N>
+ *            This defines the class type of the nodes.
+ */
+final class TrieSpliterator<N> implements Spliterator<String> {
+
+    /*
+     * A pending unit of work. Either a complete subtree or, when the node is a word that was expanded, the single word
+     * of that node.
+     */
+    private static final class Entry<N> {
+        private final N _node;
+        private final String _path;
+        private final boolean _isWordOnly;
+
+        private Entry(final N node, final String path, final boolean isWordOnly) {
+            this._node = node;
+            this._path = path;
+            this._isWordOnly = isWordOnly;
+        }
+    }
+
+    private final TrieNodeAccessor<N> _accessor;
+
+    /*
+     * The pending entries. The first entry is the next one to be traversed.
+     */
+    private final ArrayDeque<Entry<N>> _entries;
+
+    /*
+     * The number of words that have not been traversed yet.
+     */
+    private long _remaining;
+
+    /**
+     * Constructor.
+     *
+     * @param accessor
+     *            Reads the nodes of the Trie.
+     * @param node
+     *            The node at the top of the subtree to traverse.
+     * @param path
+     *            The keys from the root to the node.
+     */
+    TrieSpliterator(final TrieNodeAccessor<N> accessor, final N node, final String path) {
+        this(accessor);
+        assert (node != null) : "The parameter 'node' should not be null.";
+
+        this._entries.addFirst(new Entry<>(node, path, false));
+        this._remaining = accessor.getWordCount(node);
+    }
+
+    /*
+     * Constructor used by trySplit.
+     */
+    private TrieSpliterator(final TrieNodeAccessor<N> accessor) {
+        assert (accessor != null) : "The parameter 'accessor' should not be null.";
+
+        this._accessor = accessor;
+        this._entries = new ArrayDeque<>();
+        this._remaining = 0;
+    }
+
+    /**
+     * Gets the words below the node that a prefix is walked to as far as its keys match, in order.
+     *
+     * @param accessor
+     *            Reads the nodes of the Trie.
+     * @param root
+     *            The root of the Trie.
+     * @param prefix
+     *            The prefix. Not null.
+     *
+     * @return A <code>List</code> instance containing zero to many <code>String</code> instances.
+     */
+    static <N> List<String> getCloseWords(final TrieNodeAccessor<N> accessor, final N root, final String prefix) {
+        N node = root;
+        int index = 0;
+        while (index < prefix.length()) {
+            final N child = accessor.findChild(node, accessor.getKey(prefix, index));
+            if (child == null) {
+                // if the key is not found. STOP.
+                break;
+            }
+            node = child;
+            index = accessor.nextIndex(prefix, index);
+        }
+
+        final List<String> words = new ArrayList<>(accessor.getWordCount(node));
+        new TrieSpliterator<>(accessor, node, prefix.substring(0, index)).forEachRemaining(words::add);
+        return (words);
+    }
+
+    /**
+     * Gets a <code>Stream</code> of the words that start with a prefix. The prefix must be fully matched.
+     *
+     * @param accessor
+     *            Reads the nodes of the Trie.
+     * @param root
+     *            The root of the Trie.
+     * @param prefix
+     *            The prefix. Not null; an empty prefix streams every word.
+     *
+     * @return A <code>Stream</code> instance of zero to many <code>String</code> instances.
+     */
+    static <N> Stream<String> stream(final TrieNodeAccessor<N> accessor, final N root, final String prefix) {
+        final N node = accessor.walk(root, prefix);
+        if (node == null) {
+            return (Stream.empty());
+        }
+        return (StreamSupport.stream(new TrieSpliterator<>(accessor, node, prefix), false));
+    }
+
+    @Override
+    public int characteristics() {
+        final int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.SIZED
+                | Spliterator.SUBSIZED;
+        return (this._accessor.isImmutable() ? characteristics | Spliterator.IMMUTABLE : characteristics);
+    }
+
+    @Override
+    public long estimateSize() {
+        return (this._remaining);
+    }
+
+    /*
+     * Replaces the first entry with its children, keeping the child order. If the node is a word, then the word is kept
+     * in front of the children.
+     */
+    private void expandFirst() {
+        final Entry<N> entry = this._entries.removeFirst();
+        final N node = entry._node;
+        N next = null;
+        for (int i = this._accessor.getChildCount(node) - 1; i >= 0; --i) {
+            final N child = this._accessor.getChild(node, i, next);
+            final int key = this._accessor.getKey(node, i, child);
+            this._entries.addFirst(new Entry<>(child, this._accessor.appendKey(entry._path, key), false));
+            next = child;
+        }
+        if (this._accessor.isWord(node)) {
+            this._entries.addFirst(new Entry<>(node, entry._path, true));
+        }
+    }
+
+    /*
+     * Gets the number of words of an entry.
+     */
+    private int getWordCount(final Entry<N> entry) {
+        return (entry._isWordOnly ? 1 : this._accessor.getWordCount(entry._node));
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super String> action) {
+        if (action == null) {
+            throw new NullPointerException("action cannot be null");
+        }
+
+        while (!this._entries.isEmpty()) {
+            final Entry<N> entry = this._entries.peekFirst();
+            if (entry._isWordOnly) {
+                this._entries.removeFirst();
+                --this._remaining;
+                action.accept(this._accessor.getWord(entry._node, entry._path));
+                return (true);
+            }
+            this.expandFirst();
+        }
+        return (false);
+    }
+
+    @Override
+    public Spliterator<String> trySplit() {
+        // descend through chains of single subtrees so the split happens at a branching node.
+        while (this._entries.size() == 1) {
+            final Entry<N> entry = this._entries.peekFirst();
+            if (entry._isWordOnly || this._accessor.getChildCount(entry._node) == 0) {
+                return (null);
+            }
+            this.expandFirst();
+        }
+
+        final int splitCount = this._entries.size() / 2;
+        if (splitCount == 0) {
+            return (null);
+        }
+
+        // the prefix of the traversal order is handed off to keep the encounter order.
+        final TrieSpliterator<N> prefixSpliterator = new TrieSpliterator<>(this._accessor);
+        for (int i = 0; i < splitCount; ++i) {
+            final Entry<N> entry = this._entries.removeFirst();
+            prefixSpliterator._entries.addLast(entry);
+            prefixSpliterator._remaining += this.getWordCount(entry);
+        }
+        this._remaining -= prefixSpliterator._remaining;
+        return (prefixSpliterator);
+    }
+}
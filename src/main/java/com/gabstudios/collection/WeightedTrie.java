@@ -0,0 +1,394 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * A Trie where every word carries a usage weight. The weight of a word is raised by calling increment(word) and every
+ * node keeps the maximum weight found in its subtree, so the most used words below a prefix are found best first and
+ * whole subtrees with lower weights are never visited. The words returned by getWords are ordered by weight, highest
+ * first. Words with the same weight keep the order of the Trie. An optional decay makes the weights follow recent
+ * usage: every increment multiplies the weight of every other word by the decay factor. The decay is applied lazily by
+ * growing the amount of the next increment, so an increment is O(length of the word) and the weights are only rescaled
+ * when that amount becomes very large.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+public class WeightedTrie extends LinkedHashMapTrie {
+
+    /**
+     * The node within a WeightedTrie. Holds the weight of the word that ends at the node and the maximum weight of the
+     * words in its subtree.
+     *
+     * @author Gregory Brown (sysdevone)
+     */
+    public static class WeightedTrieNode extends TrieNode {
+        /*
+         * The scaled weight of the word that ends at this node.
+         */
+        private double _weight;
+
+        /*
+         * The largest scaled weight of the words in the subtree of this node, including this node.
+         */
+        private double _maxWeight;
+
+        /**
+         * @param tree
+         *            The tree that this node is part of.
+         * @param data
+         *            A <code>Character</code> instance.
+         */
+        protected WeightedTrieNode(final WeightedTrie tree, final Character data) {
+            super(tree, data);
+            this._weight = 0;
+            this._maxWeight = 0;
+        }
+
+        /*
+         * Recalculates the maximum weight of the subtree from the node and its children.
+         */
+        private void updateMaxWeight() {
+            double maxWeight = this.isWord() ? this._weight : 0;
+            for (final Node<Character> child : this.getChildrenView()) {
+                maxWeight = Math.max(maxWeight, ((WeightedTrieNode) child)._maxWeight);
+            }
+            this._maxWeight = maxWeight;
+        }
+    }
+
+    /*
+     * A pending entry of the best first search. Either a subtree, which is ranked by its maximum weight, or a single
+     * word, which is ranked by its weight.
+     */
+    private static final class Entry implements Comparable<Entry> {
+        private final WeightedTrieNode _node;
+        private final String _word;
+        private final boolean _isWordOnly;
+        private final double _priority;
+        private final int[] _path;
+
+        private Entry(final WeightedTrieNode node, final String word, final boolean isWordOnly, final int[] path) {
+            this._node = node;
+            this._word = word;
+            this._isWordOnly = isWordOnly;
+            this._priority = isWordOnly ? node._weight : node._maxWeight;
+            this._path = path;
+        }
+
+        /*
+         * Highest priority first. Equal priorities are taken in the depth first order of the Trie, which is the order
+         * of the child positions along the path. A word comes before its children.
+         */
+        @Override
+        public int compareTo(final Entry other) {
+            final int result = Double.compare(other._priority, this._priority);
+            return (result != 0 ? result : Arrays.compare(this._path, other._path));
+        }
+
+        /*
+         * Creates the path of a child from the path of this entry.
+         */
+        private int[] childPath(final int position) {
+            final int[] path = Arrays.copyOf(this._path, this._path.length + 1);
+            path[this._path.length] = position;
+            return (path);
+        }
+    }
+
+    /*
+     * A reasonable max length for a prefix.
+     */
+    private static final int MAX_WORD_LENGTH = 100;
+
+    /*
+     * When the increment grows past this value, then every weight is rescaled.
+     */
+    private static final double RESCALE_LIMIT = 1e100;
+
+    /*
+     * The factor that the weights decay by on every increment. 1 means that the weights do not decay.
+     */
+    private final double _decay;
+
+    /*
+     * The amount that is added by the next increment. Grows by 1 / decay on every increment.
+     */
+    private double _increment;
+
+    /**
+     * Constructor. The weights do not decay.
+     */
+    public WeightedTrie() {
+        this(1.0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param decay
+     *            The factor that the weight of every word is multiplied by when another word is incremented. Must be
+     *            greater than 0 and less than or equal to 1. A value of 1 means the weights do not decay.
+     */
+    public WeightedTrie(final double decay) {
+        super();
+        if (!(decay > 0 && decay <= 1)) {
+            throw new IllegalArgumentException("decay must be greater than 0 and less than or equal to 1");
+        }
+        this._decay = decay;
+        this._increment = 1.0;
+    }
+
+    /**
+     * Used to clear and reset the Trie. The weights are cleared with the words.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        ((WeightedTrieNode) this.getRoot())._maxWeight = 0;
+        this._increment = 1.0;
+    }
+
+    /*
+     * A factory helper method that creates the <code>Node</code> implementation.
+     * @return The <code>Node</code> instance that was created.
+     */
+    @Override
+    protected WeightedTrieNode createNode(final Character data) {
+        assert (data != null) : "Not able to create Node.  The parameter 'data' should not be null.";
+        final WeightedTrieNode node = new WeightedTrieNode(this, data);
+        return (node);
+    }
+
+    /**
+     * Gets the decay factor of the weights.
+     *
+     * @return A double value greater than 0 and less than or equal to 1.
+     */
+    public double getDecay() {
+        return (this._decay);
+    }
+
+    /**
+     * Gets the most used words that are a close match to the prefix. The prefix is walked as far as it matches and the
+     * words below that point are searched best first, so only the subtrees that can hold one of the top words are
+     * visited.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     * @param count
+     *            The maximum number of words to return. Must be greater than 0.
+     *
+     * @return A <code>List</code> instance containing zero to count <code>String</code> instances, highest weight
+     *         first.
+     */
+    public List<String> getTopWords(final String prefix, final int count) {
+        TrieNodeAccessor.validatePrefix(prefix, MAX_WORD_LENGTH);
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be greater than 0");
+        }
+
+        // walk the prefix as far as it matches.
+        WeightedTrieNode node = (WeightedTrieNode) this.getRoot();
+        int length = 0;
+        for (; length < prefix.length(); ++length) {
+            final WeightedTrieNode child = (WeightedTrieNode) node.getChild(prefix.charAt(length));
+            if (child == null) {
+                // if the character is not found. STOP.
+                break;
+            }
+            node = child;
+        }
+
+        final List<String> words = new ArrayList<>();
+        final PriorityQueue<Entry> queue = new PriorityQueue<>();
+        queue.add(new Entry(node, prefix.substring(0, length), false, new int[0]));
+
+        while (!queue.isEmpty() && words.size() < count) {
+            final Entry entry = queue.poll();
+            if (entry._isWordOnly) {
+                words.add(entry._word);
+                continue;
+            }
+
+            if (entry._node.isWord()) {
+                queue.add(new Entry(entry._node, entry._word, true, entry.childPath(-1)));
+            }
+            final List<Node<Character>> children = entry._node.getChildren();
+            for (int i = 0; i < children.size(); ++i) {
+                final WeightedTrieNode child = (WeightedTrieNode) children.get(i);
+                queue.add(new Entry(child, entry._word + child.getData(), false, entry.childPath(i)));
+            }
+        }
+        return (words);
+    }
+
+    /**
+     * Gets the weight of a word. With a decay, the weight is the decayed number of times that the word was incremented.
+     *
+     * @param word
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A double value of 0 to n. 0 is returned if the word is not contained.
+     */
+    public double getWeight(final String word) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("word cannot be null or empty");
+        }
+
+        final WeightedTrieNode node = (WeightedTrieNode) this.findNode(word);
+        if (node == null || !node.isWord()) {
+            return (0);
+        }
+        return (node._weight / this._increment);
+    }
+
+    /**
+     * Gets words that are a close match to the prefix, highest weight first.
+     *
+     * @param prefix
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A <code>List</code> instance containing zero to many <code>String</code> instances.
+     */
+    @Override
+    public List<String> getWords(final String prefix) {
+        return (this.getTopWords(prefix, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Increments the weight of a word. The word must have been added.
+     *
+     * @param word
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A boolean value of true if the word was incremented, otherwise it is false if it is not contained.
+     */
+    public boolean increment(final String word) {
+        return (this.increment(word, 1));
+    }
+
+    /**
+     * Increments the weight of a word a number of times, the same as calling increment(String) that many times in a
+     * row. The increments are added as one geometric sum, so the cost does not depend on the number of times, and the
+     * ancestors of the word are only updated once. The word must have been added.
+     *
+     * @param word
+     *            A <code>String</code> instance. May not be null or empty.
+     * @param times
+     *            The number of increments. Must be greater than 0.
+     *
+     * @return A boolean value of true if the word was incremented, otherwise it is false if it is not contained.
+     */
+    public boolean increment(final String word, final int times) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("word cannot be null or empty");
+        }
+        if (times < 1) {
+            throw new IllegalArgumentException("times must be greater than 0");
+        }
+
+        final WeightedTrieNode node = (WeightedTrieNode) this.findNode(word);
+        if (node == null || !node.isWord()) {
+            return (false);
+        }
+
+        if (this._decay == 1.0) {
+            node._weight += times * this._increment;
+        } else {
+            // decaying every other weight is the same as making each increment larger by 1 / decay. The sum of the
+            // increments is the last increment times (1 - decay^times) / (1 - decay).
+            final double shrink = Math.pow(this._decay, times);
+            final double increment = this._increment / shrink;
+            final double sum = (1.0 - shrink) / (1.0 - this._decay);
+            if (increment > RESCALE_LIMIT) {
+                this.rescale(increment);
+                node._weight += sum;
+            } else {
+                this._increment = increment;
+                node._weight += increment * sum;
+            }
+        }
+
+        final double weight = node._weight;
+        WeightedTrieNode current = node;
+        while (current != null && current._maxWeight < weight) {
+            current._maxWeight = weight;
+            current = (WeightedTrieNode) current.getParent();
+        }
+        return (true);
+    }
+
+    /**
+     * Removes a word from the Trie with its weight.
+     *
+     * @param word
+     *            A <code>String</code> instance. May not be null or empty.
+     *
+     * @return A boolean value of true if the word was removed, otherwise it is false if it was not contained.
+     */
+    @Override
+    public boolean remove(final String word) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException("word cannot be null or empty");
+        }
+
+        final WeightedTrieNode node = (WeightedTrieNode) this.findNode(word);
+        if (node == null || !node.isWord()) {
+            return (false);
+        }
+
+        // the parents are kept before the branch is pruned so that the maximum weights can be updated.
+        final List<WeightedTrieNode> path = new ArrayList<>();
+        for (Node<Character> current = node; current != null; current = current.getParent()) {
+            path.add((WeightedTrieNode) current);
+        }
+
+        super.remove(word);
+        node._weight = 0;
+        for (final WeightedTrieNode current : path) {
+            current.updateMaxWeight();
+        }
+        return (true);
+    }
+
+    /*
+     * Divides every weight by the scale, which is the increment that the weights are measured in, so that the increment
+     * can start at 1 again. A scale too large for a double divides every weight to 0.
+     */
+    private void rescale(final double scale) {
+        final ArrayDeque<WeightedTrieNode> stack = new ArrayDeque<>();
+        stack.push((WeightedTrieNode) this.getRoot());
+        while (!stack.isEmpty()) {
+            final WeightedTrieNode node = stack.pop();
+            node._weight /= scale;
+            node._maxWeight /= scale;
+            for (final Node<Character> child : node.getChildrenView()) {
+                stack.push((WeightedTrieNode) child);
+            }
+        }
+        this._increment = 1.0;
+    }
+}
@@ -0,0 +1,220 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.cmdline;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Measures the time from starting a JVM to the first <code>Command</code> of a small application that defines a few
+ * commands and parses its arguments. The application is run in a new JVM with the default CDS archive of the JDK and
+ * then with an AppCDS archive of its own classes, made the way the README describes:
+ *
+ * <pre>
+ * java -XX:ArchiveClassesAtExit=app.jsa -cp app.jar ...
+ * java -XX:SharedArchiveFile=app.jsa -cp app.jar ...
+ * </pre>
+ *
+ * CDS only archives classes that are loaded from a jar, so the classes are put in a jar first. Not run by the build;
+ * run it from the command line after <code>mvn test-compile</code>:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.gabstudios.cmdline.CmdLineStartupBenchmark
+ * </pre>
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+public final class CmdLineStartupBenchmark {
+
+    /**
+     * The application that is started. Prints the name of the first command that it parses.
+     */
+    public static final class FirstCommand {
+        public static void main(final String[] args) {
+            CmdLine.defineCommand("-logfile, !file, #use given file for log")
+                    .defineCommand("-verbose, #be extra verbose")
+                    .defineCommand("-files, !names..., :[a-z0-9.]+, #the files to read");
+            final List<Command> commands = CmdLine
+                    .parse(new String[] { "-logfile", "a.log", "-verbose", "-Dapp.mode=batch", "-files", "a.txt" });
+            System.out.println(commands.get(0).getName());
+        }
+    }
+
+    private static final int ROUNDS = 10;
+
+    /**
+     * Creates a jar of the classes of the library and of this benchmark.
+     *
+     * @param jarFile
+     *            The jar to create.
+     *
+     * @throws IOException
+     *             If the classes cannot be read or the jar cannot be written.
+     */
+    static void createJar(final Path jarFile) throws IOException {
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jarFile))) {
+            CmdLineStartupBenchmark.addClasses(output, CmdLineStartupBenchmark.classesOf(CmdLine.class));
+            CmdLineStartupBenchmark.addClasses(output, CmdLineStartupBenchmark.classesOf(FirstCommand.class));
+        }
+    }
+
+    /*
+     * Adds the class files under a directory to the jar. The library and the test classes are in different directories,
+     * so no entry is added twice.
+     */
+    private static void addClasses(final JarOutputStream output, final Path directory) throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(directory)) {
+            walk.filter(Files::isRegularFile).filter(file -> file.toString().endsWith(".class")).forEach(files::add);
+        }
+        for (final Path file : files) {
+            output.putNextEntry(new JarEntry(directory.relativize(file).toString().replace('\\', '/')));
+            output.write(Files.readAllBytes(file));
+            output.closeEntry();
+        }
+    }
+
+    /*
+     * Gets the directory that a class was loaded from.
+     */
+    private static Path classesOf(final Class<?> type) throws IOException {
+        try {
+            return (Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()));
+        } catch (final URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Starts the application in a new JVM and waits for it to end.
+     *
+     * @param jarFile
+     *            The jar of the classes.
+     * @param options
+     *            The JVM options.
+     *
+     * @return The output of the application.
+     *
+     * @throws IOException
+     *             If the JVM cannot be started or ends with an error.
+     */
+    static List<String> run(final Path jarFile, final String... options) throws IOException {
+        final Process process = CmdLineStartupBenchmark.start(jarFile, options);
+        final List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        CmdLineStartupBenchmark.waitFor(process, lines);
+        return (lines);
+    }
+
+    /*
+     * Starts the application. The error output is merged with the output.
+     */
+    private static Process start(final Path jarFile, final String... options) throws IOException {
+        final List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(options));
+        command.add("-cp");
+        command.add(jarFile.toString());
+        command.add(FirstCommand.class.getName());
+        return (new ProcessBuilder(command).redirectErrorStream(true).start());
+    }
+
+    /*
+     * Waits for the application to end and fails if it did not end normally.
+     */
+    private static void waitFor(final Process process, final List<String> output) throws IOException {
+        try {
+            final int exitValue = process.waitFor();
+            if (exitValue != 0) {
+                throw new IOException("The application ended with " + exitValue + ": " + output);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    /*
+     * Gets the time from starting the JVM until the application prints its first command.
+     */
+    private static long timeToFirstCommand(final Path jarFile, final String... options) throws IOException {
+        final long start = System.nanoTime();
+        final Process process = CmdLineStartupBenchmark.start(jarFile, options);
+        final long elapsed;
+        final List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            final String line = reader.readLine();
+            elapsed = System.nanoTime() - start;
+            lines.add(line);
+            if (!"-logfile".equals(line)) {
+                throw new IllegalStateException("unexpected output: " + line);
+            }
+            while (reader.readLine() != null) {
+                // drain the output.
+            }
+        }
+        CmdLineStartupBenchmark.waitFor(process, lines);
+        return (elapsed);
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final Path directory = Files.createTempDirectory("cmdline-startup");
+        final Path jarFile = directory.resolve("app.jar");
+        final Path archive = directory.resolve("app.jsa");
+        CmdLineStartupBenchmark.createJar(jarFile);
+        CmdLineStartupBenchmark.run(jarFile, "-XX:ArchiveClassesAtExit=" + archive);
+
+        long defaultNanos = Long.MAX_VALUE;
+        long archiveNanos = Long.MAX_VALUE;
+        // the best of several rounds, after the first round has warmed up the file cache.
+        for (int round = 0; round < ROUNDS; ++round) {
+            defaultNanos = Math.min(defaultNanos, CmdLineStartupBenchmark.timeToFirstCommand(jarFile));
+            archiveNanos = Math.min(archiveNanos,
+                    CmdLineStartupBenchmark.timeToFirstCommand(jarFile, "-XX:SharedArchiveFile=" + archive));
+        }
+
+        System.out.printf("default CDS: %6.1f ms to the first command%n", defaultNanos / 1e6);
+        System.out.printf("AppCDS:      %6.1f ms to the first command  speedup %.2fx%n", archiveNanos / 1e6,
+                (double) defaultNanos / archiveNanos);
+
+        Files.delete(archive);
+        Files.delete(jarFile);
+        Files.delete(directory);
+    }
+}
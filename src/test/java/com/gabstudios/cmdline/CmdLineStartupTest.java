@@ -0,0 +1,77 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.cmdline;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Starts a small application that uses <code>CmdLine</code> in a new JVM.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+public class CmdLineStartupTest {
+
+    @TempDir
+    Path _directory;
+
+    Path _jarFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        this._jarFile = this._directory.resolve("app.jar");
+        CmdLineStartupBenchmark.createJar(this._jarFile);
+    }
+
+    @Test
+    public void testAppCdsArchive() throws IOException {
+        final Path archive = this._directory.resolve("app.jsa");
+        final List<String> output = CmdLineStartupBenchmark.run(this._jarFile, "-XX:ArchiveClassesAtExit=" + archive);
+        Assertions.assertTrue(output.contains("-logfile"), output.toString());
+        Assertions.assertTrue(Files.size(archive) > 0);
+
+        // the classes of the library are loaded from the archive.
+        final List<String> sharedOutput = CmdLineStartupBenchmark.run(this._jarFile, "-Xshare:on",
+                "-XX:SharedArchiveFile=" + archive, "-Xlog:class+load=info");
+        Assertions.assertTrue(sharedOutput.contains("-logfile"), sharedOutput.toString());
+        Assertions.assertTrue(sharedOutput.stream()
+                .anyMatch(line -> line.contains(" com.gabstudios.cmdline.CmdLine source: shared objects file")));
+    }
+
+    @Test
+    public void testNoLambdaAtStartup() throws IOException {
+        // defining the commands and the first parse do not spin classes for lambdas, streams or string concatenation.
+        // The lambdas of the JDK that are in its CDS archive are loaded without being spun.
+        final List<String> output = CmdLineStartupBenchmark.run(this._jarFile, "-Xlog:class+load=info");
+        Assertions.assertTrue(output.contains("-logfile"), output.toString());
+        for (final String line : output) {
+            final boolean isSpun = (line.contains("$$Lambda") && !line.contains("source: shared objects file"))
+                    || line.contains("__JVM_LookupDefineClass__");
+            Assertions.assertFalse(isSpun, line);
+        }
+    }
+}
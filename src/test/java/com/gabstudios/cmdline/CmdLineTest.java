@@ -19,9 +19,13 @@
 
 package com.gabstudios.cmdline;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.PatternSyntaxException;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -1012,4 +1016,237 @@ public class CmdLineTest {
         Assertions.assertTrue(tokens.get(3).equals("-Dorg.gabsocial.cmdline.debug"));
         Assertions.assertTrue(tokens.get(4).equals("true"));
     }
+
+    @Test
+    public void testAbbreviation() {
+        final CmdLineListener listener = new CmdLineListener();
+
+        CmdLine.setAllowAbbreviations(true).defineCommand("-verbose, #be extra verbose")
+                .defineCommand("-version, #print the version").defineCommand("-logfile, !file, #use file for log");
+
+        CmdLine.parse(new String[] { "-verb", "-vers", "-log", "app.log" }, listener);
+
+        Assertions.assertEquals(3, listener.getCount());
+        Assertions.assertNotNull(listener.getCommand("-verbose"));
+        Assertions.assertNotNull(listener.getCommand("-version"));
+        Assertions.assertEquals(List.of("app.log"), listener.getCommand("-logfile").getValues("file"));
+    }
+
+    @Test
+    public void testAbbreviationAmbiguous() {
+        CmdLine.setAllowAbbreviations(true).defineCommand("-verbose, #be extra verbose")
+                .defineCommand("-version, #print the version");
+
+        final UnsupportedException e = Assertions.assertThrows(UnsupportedException.class,
+                () -> CmdLine.parse(new String[] { "-ver" }));
+        Assertions.assertTrue(e.getMessage().contains("ambiguous"));
+        Assertions.assertEquals(List.of("-verbose", "-version"), e.getSuggestionList());
+
+        // abbreviations are not allowed by default.
+        CmdLine.clear();
+        CmdLine.defineCommand("-verbose, #be extra verbose");
+        Assertions.assertThrows(UnsupportedException.class, () -> CmdLine.parse(new String[] { "-verb" }));
+    }
+
+    @Test
+    public void testParseByteBuffer() {
+        final CmdLineListener listener = new CmdLineListener();
+        CmdLine.defineCommand("-f, --file, !fileNames..., :\\S+\\.txt, #Load files into the system")
+                .defineCommand("-l, --list, #List the files");
+
+        // the layout of /proc/<pid>/cmdline, with a trailing NUL.
+        final byte[] bytes = "--file\0a.txt,b.txt\0ü.txt\0-Dcmdline.test=yes\0-l\0".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final List<Command> commands = CmdLine.parse(buffer, listener);
+
+        Assertions.assertEquals(3, commands.size());
+        Assertions.assertEquals(0, buffer.position());
+        Assertions.assertEquals(List.of("a.txt", "b.txt", "ü.txt"),
+                listener.getCommand("--file").getValues("fileNames"));
+        Assertions.assertNotNull(listener.getCommand("-l"));
+        Assertions.assertEquals("yes", System.getProperty("cmdline.test"));
+
+        final List<CharSequence> tokens = CmdLine
+                .tokenize(ByteBuffer.wrap("a= b ,c\0\0d".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals(List.of("a", "b", "c", "d"), tokens.stream().map(CharSequence::toString).toList());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CmdLine.parse(ByteBuffer.allocate(0)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CmdLine.parse(ByteBuffer.allocate(300)));
+    }
+
+    @Test
+    public void testParseCache() {
+        final CmdLineListener listener = new CmdLineListener();
+        CmdLine.setParseCacheSize(2).defineCommand("-f, --file, !fileNames..., #Load files into the system")
+                .defineCommand("-l, --list, #List the files");
+
+        final String[] args = { "-f", "a.txt", "-Dcmdline.cache=one", "-l" };
+        final List<Command> parsed = CmdLine.parse(args, listener);
+        System.clearProperty("cmdline.cache");
+        final List<Command> cached = CmdLine.parse(args.clone(), listener);
+
+        // a hit returns the same commands and replays the system property.
+        Assertions.assertEquals(3, parsed.size());
+        Assertions.assertEquals(6, cached.size());
+        Assertions.assertSame(cached.get(0), cached.get(3));
+        Assertions.assertSame(cached.get(1), cached.get(4));
+        Assertions.assertEquals("one", System.getProperty("cmdline.cache"));
+        Assertions.assertEquals(List.of("a.txt"), listener.getCommand("-f").getValues("fileNames"));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> cached.get(0).addVariable("fileNames", "b.txt"));
+
+        CmdLine.parse(new String[] { "-l" });
+        CmdLine.parse(new String[] { "--list" });
+        ParseCacheStats stats = CmdLine.getParseCacheStats();
+        Assertions.assertEquals(1, stats.getHitCount());
+        Assertions.assertEquals(3, stats.getMissCount());
+        Assertions.assertEquals(1, stats.getEvictionCount());
+        Assertions.assertEquals(2, stats.getSize());
+        Assertions.assertEquals(0.25, stats.getHitRate());
+
+        // a new definition empties the cache.
+        CmdLine.defineCommand("-q, #Quit");
+        CmdLine.parse(new String[] { "--list" });
+        stats = CmdLine.getParseCacheStats();
+        Assertions.assertEquals(1, stats.getHitCount());
+        Assertions.assertEquals(1, stats.getSize());
+
+        CmdLine.clear();
+        Assertions.assertEquals(0, CmdLine.getParseCacheStats().getMaxSize());
+    }
+
+    @Test
+    public void testParseLine() {
+        final CmdLineListener listener = new CmdLineListener();
+        CmdLine.defineCommand("-logfile, !file, #use file for log").defineCommand("-verbose, #be extra verbose")
+                .defineCommand("-name, !names..., #the names");
+
+        final List<Command> commands = CmdLine.parse(
+                "-logfile '/var/log/a b.log' -verbose -Dcmdline.line=y -name \"x \\\"y\\\"\" z\\ w \\\n ''", listener);
+        Assertions.assertEquals(4, commands.size());
+        Assertions.assertEquals(List.of("/var/log/a b.log"), listener.getCommand("-logfile").getValues("file"));
+        Assertions.assertNotNull(listener.getCommand("-verbose"));
+        Assertions.assertEquals("y", System.getProperty("cmdline.line"));
+        Assertions.assertEquals(List.of("x \"y\"", "z w"), listener.getCommand("-name").getValues("names"));
+    }
+
+    @Test
+    public void testParseLineCache() {
+        final CmdLineListener listener = new CmdLineListener();
+        CmdLine.setParseCacheSize(4).defineCommand("-f, !fileNames..., #Load files into the system")
+                .defineCommand("-l, #List the files");
+
+        final List<Command> parsed = CmdLine.parse("-f 'a b.txt' -Dcmdline.lineCache=one -l", listener);
+        System.clearProperty("cmdline.lineCache");
+        final List<Command> cached = CmdLine.parse(new StringBuilder("-f 'a b.txt' -Dcmdline.lineCache=one -l"),
+                listener);
+
+        // a hit returns the same commands and replays the system property.
+        Assertions.assertEquals(3, parsed.size());
+        Assertions.assertEquals(6, cached.size());
+        Assertions.assertSame(cached.get(0), cached.get(3));
+        Assertions.assertEquals("one", System.getProperty("cmdline.lineCache"));
+        Assertions.assertEquals(List.of("a b.txt"), listener.getCommand("-f").getValues("fileNames"));
+        Assertions.assertEquals(1, CmdLine.getParseCacheStats().getHitCount());
+
+        // the line is not the same key as one argument that holds it.
+        CmdLine.parse("-f a.txt");
+        Assertions.assertThrows(UnsupportedException.class, () -> CmdLine.parse(new String[] { "-f a.txt" }));
+        Assertions.assertEquals(1, CmdLine.getParseCacheStats().getHitCount());
+
+        // a line that cannot be split is not cached.
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CmdLine.parse("-f 'a.txt"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CmdLine.parse("-f 'a.txt"));
+        Assertions.assertEquals(2, CmdLine.getParseCacheStats().getSize());
+    }
+
+    @Test
+    public void testTokenizeLine() {
+        // the tokens are the same as for the arguments a shell would pass.
+        final String line = "-f=a.txt,b.txt  'c d' \"e\\$f\\g\" h\\'i";
+        final String[] args = { "-f=a.txt,b.txt", "c d", "e$f\\g", "h'i" };
+        Assertions.assertEquals(CmdLine.tokenize(args), CmdLine.tokenize(line));
+        Assertions.assertEquals(List.of("a", "b"), CmdLine.tokenize("'a'\t\"\" b"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CmdLine.parse("-f 'a.txt"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CmdLine.parse("-f a.txt\\"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CmdLine.parse(" \t "));
+    }
+
+    @Test
+    public void testCommandProgram() {
+        final CmdLineListener listener = new CmdLineListener();
+        CmdLine.defineCommand("-copy, !from, ?to, ?mode, ?rest..., :[a-z.]+").defineCommand("-add, !first, !more...")
+                .defineCommand("-verbose");
+
+        // the optional values end with the arguments, and the list ends at the next command name.
+        CmdLine.parse(new String[] { "-add", "a", "b", "-Dcmdline.program=y", "c", "-verbose", "-copy", "x.txt" },
+                listener);
+        Assertions.assertEquals(List.of("a"), listener.getCommand("-add").getValues("first"));
+        Assertions.assertEquals(List.of("b", "c"), listener.getCommand("-add").getValues("more"));
+        Assertions.assertEquals("y", System.getProperty("cmdline.program"));
+        Assertions.assertNotNull(listener.getCommand("-verbose"));
+        Assertions.assertEquals(Set.of("from"), listener.getCommand("-copy").getVariableNames());
+
+        // every value must match the regex, which is compiled with the definition.
+        Assertions.assertThrows(MatchException.class,
+                () -> CmdLine.parse(new String[] { "-copy", "a.txt", "b.txt", "rw", "c1.txt" }));
+        Assertions.assertThrows(MissingException.class, () -> CmdLine.parse(new String[] { "-add", "a" }));
+        Assertions.assertThrows(PatternSyntaxException.class, () -> CmdLine.defineCommand("-bad, !value, :[a-z"));
+    }
+
+    @Test
+    public void testSuggestions() {
+        CmdLine.defineCommand("-verbose, #be extra verbose").defineCommand("-version, #print the version");
+        for (int i = 0; i < 100; ++i) {
+            CmdLine.defineCommand("-name" + i);
+        }
+        CmdLine.parse(new String[] { "-version", "-name99" });
+
+        // the suggestions are built from the names when they are first needed, ranked by the parses before that.
+        UnsupportedException e = Assertions.assertThrows(UnsupportedException.class,
+                () -> CmdLine.parse(new String[] { "-ver" }));
+        Assertions.assertEquals(List.of("-version", "-verbose"), e.getSuggestionList());
+
+        // once built, they are kept up to date by the parses after that.
+        CmdLine.parse(new String[] { "-verbose", "-verbose" });
+        e = Assertions.assertThrows(UnsupportedException.class, () -> CmdLine.parse(new String[] { "-ver" }));
+        Assertions.assertEquals(List.of("-verbose", "-version"), e.getSuggestionList());
+
+        // and built again when a command is defined.
+        CmdLine.defineCommand("-verify");
+        e = Assertions.assertThrows(UnsupportedException.class, () -> CmdLine.parse(new String[] { "-veri" }));
+        Assertions.assertEquals(List.of("-verify"), e.getSuggestionList());
+        final List<Command> commands = CmdLine.parse(new String[] { "-name0", "-name99" });
+        Assertions.assertEquals("-name99", commands.get(commands.size() - 1).getName());
+    }
+
+    @Test
+    public void testDuplicateLeavesDefinitions() {
+        CmdLine.defineCommand("-list, #List the files");
+        Assertions.assertThrows(UnsupportedException.class, () -> CmdLine.parse(new String[] { "-load" }));
+
+        // a duplicate name adds none of the names of the definition.
+        Assertions.assertThrows(DuplicateException.class, () -> CmdLine.defineCommand("-load, -list"));
+        Assertions.assertThrows(DuplicateException.class, () -> CmdLine.defineCommand("-load, -load"));
+        Assertions.assertThrows(UnsupportedException.class, () -> CmdLine.parse(new String[] { "-load" }));
+
+        CmdLine.defineCommand("-load, #Load the files");
+        final List<Command> commands = CmdLine.parse(new String[] { "-load" });
+        Assertions.assertEquals("-load", commands.get(commands.size() - 1).getName());
+    }
+
+    @Test
+    public void testSuggestionOrder() {
+        // names of equal weight are suggested in the order they were defined.
+        CmdLine.defineCommand("-version").defineCommand("-verbose");
+        UnsupportedException e = Assertions.assertThrows(UnsupportedException.class,
+                () -> CmdLine.parse(new String[] { "-ver" }));
+        Assertions.assertEquals(List.of("-version", "-verbose"), e.getSuggestionList());
+
+        CmdLine.clear();
+        CmdLine.defineCommand("-verbose").defineCommand("-version");
+        e = Assertions.assertThrows(UnsupportedException.class, () -> CmdLine.parse(new String[] { "-ver" }));
+        Assertions.assertEquals(List.of("-verbose", "-version"), e.getSuggestionList());
+    }
 }
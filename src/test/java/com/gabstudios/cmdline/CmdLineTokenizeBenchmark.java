@@ -0,0 +1,73 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.cmdline;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Measures splitting a command line that is one string with tokenize(CharSequence) against splitting it into a String[]
+ * with a regex and then calling tokenize(String[]). The rest of a parse is the same for both. Not run by the build; run
+ * it from the command line after <code>mvn test-compile</code>:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.gabstudios.cmdline.CmdLineTokenizeBenchmark
+ * </pre>
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+public final class CmdLineTokenizeBenchmark {
+
+    private static final String LINE = "-logfile /var/log/app/a.log -verbose -Dapp.mode=batch -files=in1.txt,in2.txt"
+            + " in3.txt -threads 8 -name nightly-import";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int OPERATIONS = 500_000;
+    private static final int ROUNDS = 10;
+
+    public static void main(final String[] args) {
+        final List<String> expected = CmdLine.tokenize(WHITESPACE.split(LINE));
+        if (!expected.equals(CmdLine.tokenize(LINE))) {
+            throw new IllegalStateException("the tokens differ");
+        }
+
+        long splitNanos = Long.MAX_VALUE;
+        long lineNanos = Long.MAX_VALUE;
+        long count = 0;
+        // the best of several rounds, after the first rounds have warmed up the JIT.
+        for (int round = 0; round < ROUNDS; ++round) {
+            long start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; ++i) {
+                count += CmdLine.tokenize(WHITESPACE.split(LINE)).size();
+            }
+            splitNanos = Math.min(splitNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; ++i) {
+                count += CmdLine.tokenize(LINE).size();
+            }
+            lineNanos = Math.min(lineNanos, System.nanoTime() - start);
+        }
+
+        System.out.println("tokens: " + expected.size() + " (" + count + " in total)");
+        System.out.printf("split then tokenize: %8.1f ns/line%n", (double) splitNanos / OPERATIONS);
+        System.out.printf("tokenize line:       %8.1f ns/line  speedup %.2fx%n", (double) lineNanos / OPERATIONS,
+                (double) splitNanos / lineNanos);
+    }
+}
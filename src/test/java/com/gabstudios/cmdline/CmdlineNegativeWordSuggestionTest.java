@@ -136,4 +136,28 @@ public class CmdlineNegativeWordSuggestionTest {
             Assertions.fail(e.toString());
         }
     }
+
+    @Test
+    public void testWordSuggestionUsageOrder() {
+
+        CmdLine.setApplicationName("myApp").setVersion("1.1.0").defineCommand("help").defineCommand("quit")
+                .defineCommand("install, !installOption").defineCommand("info");
+
+        // the command that was used is suggested first.
+        CmdLine.parse(new String[] { "info" });
+
+        final String[] args = new String[1];
+        args[0] = "inztolll";
+
+        try {
+            CmdLine.parse(args);
+
+            Assertions.fail();
+        } catch (final UnsupportedException e) {
+            final List<String> words = e.getSuggestionList();
+            Assertions.assertEquals(List.of("info", "install"), words);
+        } catch (final Exception e) {
+            Assertions.fail(e.toString());
+        }
+    }
 }
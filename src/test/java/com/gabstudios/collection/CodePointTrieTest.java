@@ -0,0 +1,112 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Gregory Brown (sysdevone)
+ */
+public class CodePointTrieTest {
+
+    @Test
+    public void testCaseInsensitive() {
+        final CodePointTrie trie = new CodePointTrie(true);
+        trie.add("Help");
+        trie.add("HELLO");
+        trie.add("install");
+        trie.add("help");
+
+        // a word that differs only by case is the same word and keeps its first spelling.
+        Assertions.assertEquals(3, trie.size());
+        Assertions.assertTrue(trie.contains("hElP"));
+        Assertions.assertTrue(trie.contains("hello"));
+        Assertions.assertFalse(trie.contains("hell"));
+        Assertions.assertEquals(List.of("HELLO", "Help"), trie.getWords("HEx"));
+        Assertions.assertEquals("Help", trie.getUniqueWord("hElp"));
+        Assertions.assertNull(trie.getUniqueWord("he"));
+        Assertions.assertEquals(2, trie.countWords("hE"));
+        Assertions.assertEquals(List.of("HELLO"), trie.match("h*O"));
+        Assertions.assertEquals(List.of("HELLO", "Help"), trie.stream("HEL").collect(Collectors.toList()));
+
+        // letters without an upper case of their own are folded with the other forms.
+        trie.add("ΣΟΦΟΣ");
+        Assertions.assertTrue(trie.contains("σοφος"));
+        Assertions.assertTrue(trie.contains("σοφοσ"));
+        trie.add("ſtop");
+        Assertions.assertTrue(trie.contains("STOP"));
+
+        Assertions.assertTrue(trie.remove("HELP"));
+        Assertions.assertFalse(trie.contains("Help"));
+        Assertions.assertEquals(List.of("HELLO"), trie.stream("he").collect(Collectors.toList()));
+        Assertions.assertEquals(4, trie.size());
+    }
+
+    @Test
+    public void testCodePoints() {
+        final CodePointTrie trie = new CodePointTrie();
+        // the two emoji share their high surrogate.
+        final String grinning = new String(Character.toChars(0x1F600));
+        final String laughing = new String(Character.toChars(0x1F606));
+        trie.add(grinning + "ok");
+        trie.add(laughing + "ok");
+        trie.add("Ok");
+
+        Assertions.assertFalse(trie.contains("ok"));
+        Assertions.assertTrue(trie.contains(grinning + "ok"));
+        Assertions.assertFalse(trie.contains(grinning.substring(0, 1)));
+        Assertions.assertEquals(0, trie.countWords(grinning.substring(0, 1)));
+        Assertions.assertEquals(grinning + "ok", trie.getUniqueWord(grinning));
+        Assertions.assertEquals(List.of(grinning + "ok", laughing + "ok"), trie.match("?ok"));
+        Assertions.assertEquals(List.of(laughing + "ok"), trie.match(laughing + "*"));
+        Assertions.assertEquals(List.of("Ok", grinning + "ok", laughing + "ok"), trie.getWords());
+    }
+
+    @Test
+    public void testMatchesLinkedHashMapTrie() {
+        final List<String> words = new ArrayList<>();
+        for (int i = 0; i < 5000; ++i) {
+            words.add("host" + Integer.toString(i * 7, 36) + (i % 3 == 0 ? ".log" : "-prod"));
+        }
+        final CodePointTrie trie = new CodePointTrie();
+        trie.addAll(words);
+        final LinkedHashMapTrie expected = new LinkedHashMapTrie();
+        expected.addAll(words);
+
+        Collections.sort(words);
+        Assertions.assertEquals(words, trie.getWords());
+        Assertions.assertEquals(words, trie.stream().parallel().collect(Collectors.toList()));
+        Assertions.assertEquals(expected.size(), trie.size());
+        Assertions.assertEquals(expected.countWords("host1"), trie.countWords("host1"));
+        Assertions.assertEquals(expected.match("*7?.log").size(), trie.match("*7?.log").size());
+
+        for (final String word : words) {
+            Assertions.assertTrue(trie.remove(word));
+        }
+        Assertions.assertEquals(0, trie.size());
+        Assertions.assertTrue(trie.getWords().isEmpty());
+    }
+}
@@ -0,0 +1,333 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Gregory Brown (sysdevone)
+ */
+public class ConcurrentTrieTest {
+
+    private static final int THREAD_COUNT = 4;
+    private static final int WORD_COUNT = 5000;
+
+    /*
+     * The word that writer thread 'thread' adds at position 'index'. Neighbouring threads share half of their words.
+     */
+    private static String word(final int thread, final int index) {
+        return ("-cmd" + ((thread + (index % 2)) % THREAD_COUNT) + "." + Integer.toString(index, 36));
+    }
+
+    /*
+     * Runs the tasks on their own threads, all released at the same time.
+     */
+    private static void runConcurrently(final List<Runnable> tasks) throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (final Runnable task : tasks) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (final Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        if (failure.get() != null) {
+            Assertions.fail(failure.get());
+        }
+    }
+
+    @Test
+    public void testAddContains() {
+        final ConcurrentTrie trie = new ConcurrentTrie();
+        trie.add("he");
+        trie.add("hello");
+        trie.add("helloworld");
+        trie.add("install");
+
+        Assertions.assertTrue(trie.contains("he"));
+        Assertions.assertTrue(trie.contains("hello"));
+        Assertions.assertFalse(trie.contains("hell"));
+        Assertions.assertFalse(trie.contains("info"));
+        Assertions.assertEquals(List.of("he", "hello", "helloworld", "install"), trie.getWords());
+        Assertions.assertEquals(List.of("hello", "helloworld"), trie.getWords("hello1"));
+        Assertions.assertEquals("install", trie.getUniqueWord("in"));
+        Assertions.assertEquals("helloworld", trie.getUniqueWord("hellow"));
+        Assertions.assertNull(trie.getUniqueWord("hell"));
+        Assertions.assertEquals(3, trie.countWords("he"));
+        Assertions.assertEquals(0, trie.countWords("hex"));
+        Assertions.assertEquals(List.of("hello", "helloworld", "install"), trie.match("*l?"));
+
+        trie.addAll(List.of("info", "hello", "help"));
+        Assertions.assertEquals(6, trie.size());
+        Assertions.assertEquals(List.of("help"), trie.match("*p"));
+
+        trie.clear();
+        Assertions.assertTrue(trie.getWords().isEmpty());
+    }
+
+    @Test
+    public void testSnapshotIsolation() {
+        final ConcurrentTrie trie = new ConcurrentTrie();
+        trie.add("-verbose");
+        final ConcurrentTrie readOnly = trie.readOnlySnapshot();
+        final ConcurrentTrie writable = trie.snapshot();
+
+        trie.add("-version");
+        writable.add("-quiet");
+
+        Assertions.assertEquals(List.of("-verbose"), readOnly.getWords());
+        Assertions.assertEquals(List.of("-verbose", "-version"), trie.getWords());
+        Assertions.assertEquals(List.of("-quiet", "-verbose"), writable.getWords());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> readOnly.add("-debug"));
+    }
+
+    @Test
+    public void testConcurrentAddMatchesLinkedHashMapTrie() throws InterruptedException {
+        final ConcurrentTrie trie = new ConcurrentTrie();
+        final AtomicBoolean isWriting = new AtomicBoolean(true);
+
+        final List<Runnable> tasks = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; ++t) {
+            final int thread = t;
+            tasks.add(() -> {
+                for (int i = 0; i < WORD_COUNT; ++i) {
+                    trie.add(word(thread, i));
+                    // a word that was added must be visible at once to the thread that added it.
+                    Assertions.assertTrue(trie.contains(word(thread, i)));
+                }
+            });
+        }
+        final Thread reader = new Thread(() -> {
+            while (isWriting.get()) {
+                trie.getWords("-cmd1");
+                trie.contains(word(1, WORD_COUNT / 2));
+            }
+        });
+        reader.start();
+        try {
+            runConcurrently(tasks);
+        } finally {
+            isWriting.set(false);
+            reader.join();
+        }
+
+        final LinkedHashMapTrie expected = new LinkedHashMapTrie();
+        for (int t = 0; t < THREAD_COUNT; ++t) {
+            for (int i = 0; i < WORD_COUNT; ++i) {
+                expected.add(word(t, i));
+            }
+        }
+
+        Assertions.assertEquals(new HashSet<>(expected.getWords()), new HashSet<>(trie.getWords()));
+        for (final String word : expected.getWords()) {
+            Assertions.assertTrue(trie.contains(word));
+        }
+        Assertions.assertEquals(new HashSet<>(expected.getWords("-cmd2")), new HashSet<>(trie.getWords("-cmd2")));
+    }
+
+    @Test
+    public void testSnapshotsAreLinearizable() throws InterruptedException {
+        final ConcurrentTrie trie = new ConcurrentTrie();
+        final AtomicBoolean isWriting = new AtomicBoolean(true);
+        final List<Runnable> tasks = new ArrayList<>();
+
+        // each writer adds its own sequence in order, so a consistent snapshot holds a prefix of every sequence.
+        for (int t = 0; t < THREAD_COUNT; ++t) {
+            final int thread = t;
+            tasks.add(() -> {
+                for (int i = 0; i < WORD_COUNT; ++i) {
+                    trie.add("-w" + thread + "." + i);
+                }
+            });
+        }
+        final Runnable writers = () -> {
+            try {
+                runConcurrently(tasks);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                isWriting.set(false);
+            }
+        };
+
+        final List<Runnable> all = new ArrayList<>();
+        all.add(writers);
+        all.add(() -> {
+            while (isWriting.get()) {
+                final ConcurrentTrie snapshot = trie.readOnlySnapshot();
+                final Set<String> words = new HashSet<>(snapshot.getWords());
+                for (int t = 0; t < THREAD_COUNT; ++t) {
+                    boolean isMissing = false;
+                    for (int i = 0; i < WORD_COUNT; ++i) {
+                        final boolean isContained = words.contains("-w" + t + "." + i);
+                        Assertions.assertFalse(isContained && isMissing, "snapshot is not a prefix of thread " + t);
+                        isMissing = !isContained;
+                        // the snapshot must not change while it is read.
+                        Assertions.assertEquals(isContained, snapshot.contains("-w" + t + "." + i));
+                    }
+                }
+            }
+        });
+        runConcurrently(all);
+
+        Assertions.assertEquals(THREAD_COUNT * WORD_COUNT, trie.getWords().size());
+    }
+
+    @Test
+    public void testStream() {
+        final ConcurrentTrie trie = new ConcurrentTrie();
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            trie.add(ConcurrentTrieTest.word(0, i));
+        }
+        trie.remove(ConcurrentTrieTest.word(0, 7));
+        final List<String> words = trie.getWords();
+
+        Assertions.assertEquals(words, trie.stream().collect(Collectors.toList()));
+        Assertions.assertEquals(words, trie.stream().parallel().collect(Collectors.toList()));
+        Assertions.assertEquals(trie.getWords("-cmd1."), trie.stream("-cmd1.").collect(Collectors.toList()));
+        Assertions.assertEquals(0, trie.stream("-cmd9").count());
+
+        // the spliterator splits at child subtrees and knows the size of each part.
+        final Spliterator<String> spliterator = trie.stream().spliterator();
+        Assertions.assertEquals(words.size(), spliterator.getExactSizeIfKnown());
+        final Spliterator<String> prefix = spliterator.trySplit();
+        Assertions.assertNotNull(prefix);
+        Assertions.assertTrue(prefix.estimateSize() > 0 && spliterator.estimateSize() > 0);
+        Assertions.assertEquals(words.size(), prefix.estimateSize() + spliterator.estimateSize());
+
+        // the stream is of a snapshot, so a later add is not seen.
+        final Stream<String> stream = trie.stream();
+        trie.add("-new");
+        Assertions.assertEquals(words.size(), stream.count());
+    }
+
+    @Test
+    public void testSizeAfterUpdates() {
+        // the counts kept from one size() must not leak into the next one after the words change.
+        final ConcurrentTrie trie = new ConcurrentTrie();
+        final Set<String> expected = new HashSet<>();
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            final String word = ConcurrentTrieTest.word(i % THREAD_COUNT, i / 3);
+            if (i % 5 == 4) {
+                trie.remove(word);
+                expected.remove(word);
+            } else {
+                trie.add(word);
+                expected.add(word);
+            }
+            if (i % 97 == 0) {
+                Assertions.assertEquals(expected.size(), trie.size());
+                Assertions.assertEquals(expected.size(), trie.readOnlySnapshot().stream().count());
+            }
+        }
+        Assertions.assertEquals(expected.size(), trie.size());
+        Assertions.assertEquals(expected.size(), trie.snapshot().size());
+    }
+
+    @Test
+    public void testRemove() {
+        final ConcurrentTrie trie = new ConcurrentTrie();
+        trie.add("hello");
+        trie.add("helloworld");
+        trie.add("help");
+        final ConcurrentTrie readOnly = trie.readOnlySnapshot();
+
+        Assertions.assertTrue(trie.remove("hello"));
+        Assertions.assertFalse(trie.remove("hello"));
+        Assertions.assertFalse(trie.remove("hel"));
+        Assertions.assertTrue(trie.contains("helloworld"));
+        Assertions.assertTrue(trie.remove("helloworld"));
+
+        // the pruned branch is not walked by the fuzzy match.
+        Assertions.assertEquals(List.of("help"), trie.getWords("hell"));
+        Assertions.assertEquals(1, trie.size());
+        Assertions.assertEquals(3, readOnly.size());
+
+        trie.add("hello");
+        Assertions.assertEquals(List.of("hello", "help"), trie.getWords());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> readOnly.remove("help"));
+    }
+
+    @Test
+    public void testConcurrentAddRemove() throws InterruptedException {
+        final ConcurrentTrie trie = new ConcurrentTrie();
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            trie.add("-keep." + i);
+        }
+
+        // the writers add and remove words that share branches, so tombs are pruned while other writers add.
+        final List<Runnable> tasks = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; ++t) {
+            final int thread = t;
+            tasks.add(() -> {
+                for (int i = 0; i < WORD_COUNT; ++i) {
+                    final String word = word(thread, i);
+                    trie.add(word);
+                    if (i % 3 != 0) {
+                        trie.remove(word);
+                    }
+                }
+            });
+            tasks.add(() -> {
+                for (int i = 0; i < 50; ++i) {
+                    final ConcurrentTrie snapshot = trie.readOnlySnapshot();
+                    Assertions.assertEquals(snapshot.getWords().size(), snapshot.size());
+                }
+            });
+        }
+        runConcurrently(tasks);
+
+        final Set<String> expected = new HashSet<>();
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            expected.add("-keep." + i);
+        }
+        for (int t = 0; t < THREAD_COUNT; ++t) {
+            for (int i = 0; i < WORD_COUNT; i += 3) {
+                expected.add(word(t, i));
+            }
+        }
+        final Set<String> words = new HashSet<>(trie.getWords());
+        Assertions.assertEquals(expected, words);
+        Assertions.assertEquals(words.size(), trie.size());
+    }
+}
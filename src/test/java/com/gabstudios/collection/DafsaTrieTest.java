@@ -0,0 +1,103 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Gregory Brown (sysdevone)
+ */
+public class DafsaTrieTest {
+
+    @Test
+    public void testMinimal() {
+        final DafsaTrie trie = new DafsaTrie.Builder().add("tap").add("taps").add("top").add("tops").build();
+
+        // the 'a' and 'o' branches share their suffix states.
+        Assertions.assertEquals(5, trie.getNodeCount());
+        Assertions.assertEquals(8, trie.getTrieNodeCount());
+        Assertions.assertEquals(List.of("tap", "taps", "top", "tops"), trie.getWords());
+        Assertions.assertEquals(4, trie.size());
+        Assertions.assertTrue(trie.contains("top"));
+        Assertions.assertFalse(trie.contains("to"));
+        Assertions.assertFalse(trie.contains("tip"));
+        Assertions.assertEquals("tops", trie.getUniqueWord("tops"));
+        Assertions.assertNull(trie.getUniqueWord("to"));
+        Assertions.assertEquals(2, trie.countWords("ta"));
+        Assertions.assertEquals(0, trie.countWords("tip"));
+        Assertions.assertEquals(List.of("taps", "tops"), trie.match("t?ps"));
+    }
+
+    @Test
+    public void testMatchesLinkedHashMapTrie() {
+        final LinkedHashMapTrie expected = new LinkedHashMapTrie();
+        final List<String> words = new ArrayList<>();
+        for (int i = 0; i < 3000; ++i) {
+            for (final String suffix : new String[] { "-prod", "-test", ".log" }) {
+                final String word = "host" + Integer.toString(i, 36) + suffix;
+                words.add(word);
+                expected.add(word);
+            }
+        }
+        Collections.sort(words);
+
+        final DafsaTrie.Builder builder = new DafsaTrie.Builder();
+        for (final String word : words) {
+            builder.add(word);
+        }
+        // a repeated word is ignored.
+        builder.add(words.get(words.size() - 1));
+        final DafsaTrie trie = builder.build();
+
+        Assertions.assertEquals(words, trie.getWords());
+        Assertions.assertEquals(expected.size(), trie.size());
+        Assertions.assertEquals(expected.getNodeCount(), trie.getTrieNodeCount());
+        Assertions.assertTrue(trie.getNodeCount() * 4 < trie.getTrieNodeCount());
+
+        Assertions.assertEquals(new HashSet<>(expected.getWords("hostzz")), new HashSet<>(trie.getWords("hostzz")));
+        Assertions.assertEquals(new HashSet<>(expected.getWords("host1a-x")), new HashSet<>(trie.getWords("host1a-x")));
+        Assertions.assertEquals(List.of("host1a-prod", "host1a-test"),
+                trie.stream("host1a-").collect(Collectors.toList()));
+        Assertions.assertEquals(words, trie.stream().parallel().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testBuilder() {
+        final DafsaTrie.Builder builder = new DafsaTrie.Builder().add("beta");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.add("alpha"));
+
+        final DafsaTrie trie = builder.build();
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.add("gamma"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> trie.add("gamma"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> trie.remove("beta"));
+
+        final DafsaTrie empty = new DafsaTrie.Builder().build();
+        Assertions.assertEquals(0, empty.size());
+        Assertions.assertTrue(empty.getWords().isEmpty());
+        Assertions.assertEquals(1, empty.getNodeCount());
+    }
+}
@@ -0,0 +1,112 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+
+import com.gabstudios.collection.LinkedHashMapTree.Node;
+
+/**
+ * Measures parallelReduce of a LinkedHashMapTree against a sequential pre-order walk. Not run by the build; run it from
+ * the command line after <code>mvn test-compile</code>:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.gabstudios.collection.LinkedHashMapTreeBenchmark
+ * </pre>
+ *
+ * Set <code>-Djava.util.concurrent.ForkJoinPool.common.parallelism=N</code> to see how the time scales with threads.
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+public final class LinkedHashMapTreeBenchmark {
+
+    private static final int FAN_OUT = 8;
+    private static final int DEPTH = 6;
+    private static final int ROUNDS = 10;
+
+    /*
+     * Some work per node, so the walk is not only memory bound.
+     */
+    private static long work(final Node<Integer> node) {
+        long value = node.getData();
+        for (int i = 0; i < 200; ++i) {
+            value = value * 6364136223846793005L + 1442695040888963407L;
+        }
+        return (value);
+    }
+
+    private static void build(final Node<Integer> node, final int depth, final int[] next) {
+        if (depth < DEPTH) {
+            for (int i = 0; i < FAN_OUT; ++i) {
+                build(node.addChild(next[0]++), depth + 1, next);
+            }
+        }
+    }
+
+    private static long sequential(final LinkedHashMapTree<Integer> tree) {
+        long sum = 0;
+        final Iterator<Node<Integer>> iterator = tree.getRoot().preOrderIterator();
+        while (iterator.hasNext()) {
+            sum += work(iterator.next());
+        }
+        return (sum);
+    }
+
+    private static long parallel(final LinkedHashMapTree<Integer> tree, final int threshold) {
+        return (tree.parallelReduce(0L, (sum, node) -> sum + work(node), Long::sum, threshold));
+    }
+
+    public static void main(final String[] args) {
+        final LinkedHashMapTree<Integer> tree = new LinkedHashMapTree<>(0);
+        build(tree.getRoot(), 0, new int[] { 1 });
+        System.out.println("nodes: " + tree.getNodeCount() + ", threads: " + ForkJoinPool.getCommonPoolParallelism());
+
+        final long expected = sequential(tree);
+        final int[] thresholds = { 256, 4096, 32768 };
+        long sequentialNanos = Long.MAX_VALUE;
+        final long[] parallelNanos = new long[thresholds.length];
+        Arrays.fill(parallelNanos, Long.MAX_VALUE);
+
+        // the best of several rounds, after the first rounds have warmed up the JIT.
+        for (int round = 0; round < ROUNDS; ++round) {
+            long start = System.nanoTime();
+            if (sequential(tree) != expected) {
+                throw new IllegalStateException("sequential result changed");
+            }
+            sequentialNanos = Math.min(sequentialNanos, System.nanoTime() - start);
+
+            for (int i = 0; i < thresholds.length; ++i) {
+                start = System.nanoTime();
+                if (parallel(tree, thresholds[i]) != expected) {
+                    throw new IllegalStateException("parallel result differs");
+                }
+                parallelNanos[i] = Math.min(parallelNanos[i], System.nanoTime() - start);
+            }
+        }
+
+        System.out.printf("sequential:                 %8.2f ms%n", sequentialNanos / 1e6);
+        for (int i = 0; i < thresholds.length; ++i) {
+            System.out.printf("parallel (threshold %6d): %8.2f ms  speedup %.2fx%n", thresholds[i],
+                    parallelNanos[i] / 1e6, (double) sequentialNanos / parallelNanos[i]);
+        }
+    }
+}
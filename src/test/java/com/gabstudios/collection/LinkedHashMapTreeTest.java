@@ -0,0 +1,335 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.gabstudios.collection.LinkedHashMapTree.Node;
+
+/**
+ * @author Gregory Brown (sysdevone)
+ */
+public class LinkedHashMapTreeTest {
+
+    /*
+     * Counts the nodes of the subtree by walking it.
+     */
+    private static int countNodes(final Node<Integer> node) {
+        int count = 1;
+        for (final Node<Integer> child : node.getChildrenView()) {
+            count += countNodes(child);
+        }
+        return (count);
+    }
+
+    /*
+     * Measures the height of the subtree by walking it.
+     */
+    private static int measureHeight(final Node<Integer> node) {
+        int height = 0;
+        for (final Node<Integer> child : node.getChildrenView()) {
+            height = Math.max(height, 1 + measureHeight(child));
+        }
+        return (height);
+    }
+
+    /*
+     * Collects the data of the subtree in pre-order by recursion.
+     */
+    private static void collectPreOrder(final Node<Integer> node, final List<Integer> data) {
+        data.add(node.getData());
+        for (final Node<Integer> child : node.getChildrenView()) {
+            collectPreOrder(child, data);
+        }
+    }
+
+    /*
+     * Collects the data that an iterator returns.
+     */
+    private static List<Integer> collect(final Iterator<Node<Integer>> iterator) {
+        final List<Integer> data = new ArrayList<>();
+        while (iterator.hasNext()) {
+            data.add(iterator.next().getData());
+        }
+        return (data);
+    }
+
+    @Test
+    public void testNodeCountAndHeight() {
+        final LinkedHashMapTree<Integer> tree = new LinkedHashMapTree<>(0);
+        Assertions.assertEquals(1, tree.getNodeCount());
+        Assertions.assertEquals(0, tree.getHeight());
+
+        final Node<Integer> one = tree.addChild(1);
+        final Node<Integer> two = one.addChild(2);
+        two.addChild(3).addChild(4);
+        one.addChild(5);
+        Assertions.assertNull(one.addChild(5));
+        Assertions.assertEquals(6, tree.getNodeCount());
+        Assertions.assertEquals(4, tree.getHeight());
+        Assertions.assertEquals(5, one.getSubtreeSize());
+        Assertions.assertEquals(3, one.getHeight());
+
+        // the height falls back to the next deepest branch.
+        one.removeChild(2);
+        Assertions.assertEquals(3, tree.getNodeCount());
+        Assertions.assertEquals(2, tree.getHeight());
+
+        one.removeChildren();
+        Assertions.assertEquals(2, tree.getNodeCount());
+        Assertions.assertEquals(1, tree.getHeight());
+        Assertions.assertTrue(one.isLeaf());
+    }
+
+    @Test
+    public void testRandomChanges() {
+        final LinkedHashMapTree<Integer> tree = new LinkedHashMapTree<>(0);
+        final Random random = new Random(38);
+        for (int i = 0; i < 5000; ++i) {
+            // walk down a random path, then add or remove a child there.
+            Node<Integer> node = tree.getRoot();
+            while (!node.isLeaf() && random.nextInt(4) != 0) {
+                final List<Node<Integer>> children = node.getChildren();
+                node = children.get(random.nextInt(children.size()));
+            }
+            if (random.nextInt(5) == 0) {
+                node.removeChild(random.nextInt(4));
+            } else {
+                node.addChild(random.nextInt(4));
+            }
+        }
+
+        Assertions.assertEquals(countNodes(tree.getRoot()), tree.getNodeCount());
+        Assertions.assertEquals(measureHeight(tree.getRoot()), tree.getHeight());
+
+        // the sibling links follow the order of the children.
+        final List<Integer> expected = new ArrayList<>();
+        collectPreOrder(tree.getRoot(), expected);
+        Assertions.assertEquals(expected, collect(tree.getRoot().preOrderIterator()));
+    }
+
+    @Test
+    public void testChildrenView() {
+        final LinkedHashMapTree<Integer> tree = new LinkedHashMapTree<>(0);
+        tree.addChild(1);
+        final Collection<Node<Integer>> view = tree.getRoot().getChildrenView();
+        tree.addChild(2);
+
+        Assertions.assertEquals(2, view.size());
+        Assertions.assertEquals(2, tree.getRoot().getChildCount());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> view.clear());
+    }
+
+    @Test
+    public void testChildIndex() {
+        final LinkedHashMapTree<Integer> tree = new LinkedHashMapTree<>(0);
+        final Node<Integer> root = tree.getRoot();
+        final int count = 3 * Node.INDEX_THRESHOLD;
+        for (int i = 1; i <= count; ++i) {
+            Assertions.assertNotNull(tree.addChild(i));
+            Assertions.assertNull(tree.addChild(i));
+        }
+        for (int i = 1; i <= count; ++i) {
+            Assertions.assertEquals(i, root.getChild(i).getData());
+        }
+
+        // remove below the threshold, so the children are scanned again, then grow past it again.
+        for (int i = 2; i <= count; i += 2) {
+            Assertions.assertNotNull(tree.removeChild(i));
+        }
+        for (int i = 1; i < count - 2; i += 2) {
+            tree.removeChild(i);
+        }
+        Assertions.assertEquals(List.of(count - 1), collect(root.getChildrenView().iterator()));
+        Assertions.assertFalse(root.containsChild(1));
+        for (int i = 1; i <= count; ++i) {
+            tree.addChild(i);
+        }
+        Assertions.assertEquals(count, root.getChildCount());
+        Assertions.assertEquals(count - 1, root.getChildren().get(0).getData());
+        Assertions.assertEquals(count, root.getChildren().get(count - 1).getData());
+        Assertions.assertTrue(root.containsChild(count / 2));
+    }
+
+    @Test
+    public void testPaths() {
+        final LinkedHashMapTree<Integer> tree = new LinkedHashMapTree<>(0);
+        final Node<Integer> leaf = tree.addPath(1, 2, 3, 4);
+        Assertions.assertEquals(4, leaf.getData());
+        Assertions.assertSame(leaf, tree.addPath(List.of(1, 2, 3, 4)));
+        tree.addPath(1, 5);
+        Assertions.assertSame(tree.getRoot(), tree.addPath());
+
+        Assertions.assertEquals(6, tree.getNodeCount());
+        Assertions.assertEquals(4, tree.getHeight());
+        Assertions.assertEquals(5, tree.getRoot().getChild(1).getSubtreeSize());
+        Assertions.assertEquals(2, tree.findPath(1, 2).getHeight());
+        Assertions.assertSame(leaf, tree.getRoot().getChild(1).findPath(List.of(2, 3, 4)));
+        Assertions.assertNull(tree.findPath(1, 2, 5));
+
+        // a null part way down leaves the tree unchanged.
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tree.addPath(Arrays.asList(1, 6, 7, null)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tree.addPath(1, 6, 7, null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tree.findPath(1, null));
+        Assertions.assertEquals(6, tree.getNodeCount());
+        Assertions.assertEquals(4, tree.getHeight());
+        Assertions.assertEquals(5, tree.getRoot().getChild(1).getSubtreeSize());
+        Assertions.assertEquals(2, tree.getRoot().getChild(1).getChildCount());
+        Assertions.assertNull(tree.findPath(1, 6));
+    }
+
+    @Test
+    public void testCharPaths() {
+        final LinkedHashMapTree<Character> tree = new LinkedHashMapTree<>('/');
+        final Node<Character> leaf = LinkedHashMapTree.addCharPath(tree.getRoot(), "help");
+        LinkedHashMapTree.addCharPath(tree.getRoot(), "hello");
+        Assertions.assertSame(leaf, LinkedHashMapTree.addCharPath(tree.getRoot(), "help"));
+        Assertions.assertEquals(7, tree.getNodeCount());
+        Assertions.assertEquals(5, tree.getHeight());
+
+        Assertions.assertSame(leaf, LinkedHashMapTree.findCharPath(tree.getRoot(), "help"));
+        Assertions.assertEquals('l', LinkedHashMapTree.findCharPath(tree.getRoot(), "hel").getData());
+        Assertions.assertNull(LinkedHashMapTree.findCharPath(tree.getRoot(), "helm"));
+
+        // a wide node is searched through its index.
+        for (char character = 'a'; character <= 'z'; ++character) {
+            LinkedHashMapTree.addCharPath(tree.getRoot(), character + "x");
+        }
+        Assertions.assertEquals('x', LinkedHashMapTree.findCharPath(tree.getRoot(), "qx").getData());
+        Assertions.assertEquals(leaf, LinkedHashMapTree.findCharPath(tree.getRoot(), "help"));
+    }
+
+    @Test
+    public void testIterators() {
+        final LinkedHashMapTree<Integer> tree = new LinkedHashMapTree<>(0);
+        final Node<Integer> one = tree.addChild(1);
+        one.addChild(3).addChild(5);
+        one.addChild(4);
+        tree.addChild(2).addChild(6);
+        tree.addChild(7);
+        tree.removeChild(7);
+
+        Assertions.assertEquals(List.of(0, 1, 3, 5, 4, 2, 6), collect(tree.getRoot().preOrderIterator()));
+        Assertions.assertEquals(List.of(5, 3, 4, 1, 6, 2, 0), collect(tree.getRoot().postOrderIterator()));
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4, 6, 5), collect(tree.getRoot().breadthFirstIterator()));
+        Assertions.assertEquals(List.of(1, 3, 5, 4), collect(one.preOrderIterator()));
+        Assertions.assertEquals(List.of(5, 3, 4, 1), collect(one.postOrderIterator()));
+        Assertions.assertEquals(List.of(5, 4, 6), tree.getLeafData());
+
+        final Iterator<Node<Integer>> iterator = tree.getRoot().getChild(2).getChild(6).preOrderIterator();
+        iterator.next();
+        Assertions.assertThrows(NoSuchElementException.class, () -> iterator.next());
+    }
+
+    @Test
+    public void testWalk() {
+        final LinkedHashMapTree<Integer> tree = new LinkedHashMapTree<>(0);
+        tree.addChild(1).addChild(3);
+        tree.addChild(2);
+
+        final List<String> visited = new ArrayList<>();
+        Assertions.assertTrue(tree.walk((node, depth) -> visited.add(node.getData() + "@" + depth)));
+        Assertions.assertEquals(List.of("0@0", "1@1", "3@2", "2@1"), visited);
+
+        // the walk stops when the visitor returns false.
+        visited.clear();
+        Assertions.assertFalse(tree.walk((node, depth) -> visited.add(node.getData() + "@" + depth) && depth < 2));
+        Assertions.assertEquals(List.of("0@0", "1@1", "3@2"), visited);
+    }
+
+    @Test
+    public void testDeepTree() {
+        final LinkedHashMapTree<Integer> tree = new LinkedHashMapTree<>(0);
+        Node<Integer> node = tree.getRoot();
+        for (int i = 1; i <= 20000; ++i) {
+            node = node.addChild(i);
+        }
+
+        Assertions.assertEquals(20001, tree.getNodeCount());
+        Assertions.assertEquals(20000, tree.getHeight());
+        Assertions.assertEquals(List.of(20000), tree.getLeafData());
+        Assertions.assertEquals(20001, collect(tree.getRoot().postOrderIterator()).size());
+        Assertions.assertEquals(20000, collect(tree.getRoot().breadthFirstIterator()).get(20000));
+
+        final int[] maxDepth = new int[1];
+        Assertions.assertTrue(tree.walk((visited, depth) -> {
+            maxDepth[0] = depth;
+            return (true);
+        }));
+        Assertions.assertEquals(20000, maxDepth[0]);
+    }
+
+    @Test
+    public void testParallelReduce() {
+        final LinkedHashMapTree<Integer> tree = new LinkedHashMapTree<>(0);
+        final Random random = new Random(40);
+        final List<Node<Integer>> nodes = new ArrayList<>();
+        nodes.add(tree.getRoot());
+        for (int i = 1; i < 30000; ++i) {
+            nodes.add(nodes.get(random.nextInt(nodes.size())).addChild(i));
+        }
+
+        final List<Integer> expected = new ArrayList<>();
+        collectPreOrder(tree.getRoot(), expected);
+
+        // the combiner is not commutative, so this checks that the order is kept.
+        final List<Integer> reduced = tree.parallelReduce(List.of(), (list, node) -> {
+            final List<Integer> result = new ArrayList<>(list);
+            result.add(node.getData());
+            return (result);
+        }, (left, right) -> {
+            final List<Integer> result = new ArrayList<>(left);
+            result.addAll(right);
+            return (result);
+        }, 64);
+        Assertions.assertEquals(expected, reduced);
+        Assertions.assertEquals(tree.getNodeCount(),
+                tree.parallelReduce(0, (count, node) -> count + 1, Integer::sum, 1).intValue());
+
+        final LongAdder sum = new LongAdder();
+        tree.parallelForEach(node -> sum.add(node.getData()));
+        Assertions.assertEquals(29999L * 30000L / 2, sum.sum());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tree.parallelForEach(node -> {
+        }, 0));
+    }
+
+    @Test
+    public void testParallelReduceDeepTree() {
+        final LinkedHashMapTree<Integer> tree = new LinkedHashMapTree<>(0);
+        Node<Integer> node = tree.getRoot();
+        for (int i = 1; i <= 20000; ++i) {
+            node = node.addChild(i);
+            node.getParent().addChild(-i);
+        }
+
+        Assertions.assertEquals(40001,
+                tree.parallelReduce(0, (count, visited) -> count + 1, Integer::sum, 1).intValue());
+    }
+}
@@ -0,0 +1,256 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Gregory Brown (sysdevone)
+ */
+public class LinkedHashMapTrieTest {
+
+    LinkedHashMapTrie _trie;
+
+    @BeforeEach
+    public void setUp() {
+        this._trie = new LinkedHashMapTrie();
+        this._trie.add("he");
+        this._trie.add("hello");
+        this._trie.add("helloworld");
+        this._trie.add("help");
+        this._trie.add("install");
+        this._trie.add("info");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this._trie = null;
+    }
+
+    @Test
+    public void testStream() {
+        final List<String> words = this._trie.stream().collect(Collectors.toList());
+
+        Assertions.assertEquals(6, words.size());
+        Assertions.assertEquals(List.of("he", "hello", "helloworld", "help", "install", "info"), words);
+    }
+
+    @Test
+    public void testStreamPrefix() {
+        Assertions.assertEquals(List.of("hello", "helloworld", "help"),
+                this._trie.stream("hel").collect(Collectors.toList()));
+        Assertions.assertEquals(0, this._trie.stream("hel111").count());
+    }
+
+    @Test
+    public void testParallelStream() {
+        final LinkedHashMapTrie trie = new LinkedHashMapTrie();
+        final Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 20000; ++i) {
+            final String word = "-resource" + Integer.toString(i, 7);
+            trie.add(word);
+            expected.add(word);
+        }
+
+        final Set<String> words = trie.stream().parallel().collect(Collectors.toSet());
+        Assertions.assertEquals(expected, words);
+
+        // the encounter order is kept when the stream is split.
+        Assertions.assertEquals(trie.stream().collect(Collectors.toList()),
+                trie.stream().parallel().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testSpliteratorSize() {
+        final Spliterator<String> spliterator = this._trie.stream().spliterator();
+        Assertions.assertEquals(6, spliterator.estimateSize());
+        Assertions.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+
+        final Spliterator<String> prefix = spliterator.trySplit();
+        Assertions.assertNotNull(prefix);
+        Assertions.assertEquals(6, prefix.estimateSize() + spliterator.estimateSize());
+
+        final long count = prefix.getExactSizeIfKnown();
+        int traversed = 0;
+        while (prefix.tryAdvance(word -> {
+        })) {
+            ++traversed;
+        }
+        Assertions.assertEquals(count, traversed);
+    }
+
+    @Test
+    public void testRemove() {
+        final int nodeCount = this._trie.getNodeCount();
+        Assertions.assertEquals(6, this._trie.size());
+
+        // a word in the middle of a branch is only unmarked.
+        Assertions.assertTrue(this._trie.remove("hello"));
+        Assertions.assertFalse(this._trie.contains("hello"));
+        Assertions.assertTrue(this._trie.contains("helloworld"));
+        Assertions.assertEquals(nodeCount, this._trie.getNodeCount());
+        Assertions.assertEquals(5, this._trie.size());
+
+        // a word at the end of a branch is pruned back to the next word.
+        Assertions.assertTrue(this._trie.remove("helloworld"));
+        Assertions.assertEquals(nodeCount - "loworld".length(), this._trie.getNodeCount());
+        Assertions.assertEquals(List.of("help"), this._trie.getWords("hell"));
+
+        Assertions.assertFalse(this._trie.remove("helloworld"));
+        Assertions.assertFalse(this._trie.remove("hel"));
+        Assertions.assertEquals(4, this._trie.size());
+        Assertions.assertEquals(4, this._trie.stream().count());
+
+        for (final String word : this._trie.getWords()) {
+            Assertions.assertTrue(this._trie.remove(word));
+        }
+        Assertions.assertEquals(0, this._trie.size());
+        Assertions.assertEquals(1, this._trie.getNodeCount());
+    }
+
+    @Test
+    public void testUniqueWord() {
+        Assertions.assertEquals("install", this._trie.getUniqueWord("ins"));
+        Assertions.assertEquals("helloworld", this._trie.getUniqueWord("hellow"));
+        Assertions.assertEquals("help", this._trie.getUniqueWord("help"));
+
+        // ambiguous or not found.
+        Assertions.assertNull(this._trie.getUniqueWord("in"));
+        Assertions.assertNull(this._trie.getUniqueWord("hello"));
+        Assertions.assertNull(this._trie.getUniqueWord("quit"));
+
+        this._trie.remove("info");
+        Assertions.assertEquals("install", this._trie.getUniqueWord("i"));
+    }
+
+    @Test
+    public void testUniqueWordFromNode() {
+        final LinkedHashMapTrie.TrieNode unique = this._trie.getNode("ins");
+        Assertions.assertEquals(1, unique.getWordCount());
+        Assertions.assertEquals("install", this._trie.getUniqueWord(unique, "ins"));
+
+        // the same node tells an ambiguous prefix from one that is not found.
+        final LinkedHashMapTrie.TrieNode ambiguous = this._trie.getNode("in");
+        Assertions.assertNull(this._trie.getUniqueWord(ambiguous, "in"));
+        Assertions.assertEquals(2, ambiguous.getWordCount());
+        Assertions.assertEquals(List.of("install", "info"),
+                this._trie.stream(ambiguous, "in").collect(Collectors.toList()));
+
+        Assertions.assertNull(this._trie.getNode("quit"));
+        Assertions.assertNull(this._trie.getUniqueWord(null, "quit"));
+        Assertions.assertEquals(0, this._trie.stream(null, "quit").count());
+    }
+
+    @Test
+    public void testCountWords() {
+        Assertions.assertEquals(4, this._trie.countWords("he"));
+        Assertions.assertEquals(2, this._trie.countWords("hello"));
+        Assertions.assertEquals(2, this._trie.countWords("in"));
+        Assertions.assertEquals(0, this._trie.countWords("hel111"));
+
+        this._trie.add("helm");
+        this._trie.remove("hello");
+        Assertions.assertEquals(3, this._trie.countWords("hel"));
+        Assertions.assertEquals(1, this._trie.countWords("hello"));
+        Assertions.assertEquals(this._trie.stream("hel").count(), this._trie.countWords("hel"));
+    }
+
+    @Test
+    public void testMatch() {
+        Assertions.assertEquals(List.of("hello", "helloworld", "help"), this._trie.match("hel*"));
+        Assertions.assertEquals(List.of("help"), this._trie.match("he?p"));
+        Assertions.assertEquals(List.of("hello", "helloworld", "help", "install"), this._trie.match("*l?"));
+        Assertions.assertEquals(List.of("helloworld"), this._trie.match("*o*o*"));
+        Assertions.assertEquals(this._trie.stream().collect(Collectors.toList()), this._trie.match("*"));
+        Assertions.assertTrue(this._trie.match("i?").isEmpty());
+    }
+
+    @Test
+    public void testMatchSuffixIndex() {
+        final LinkedHashMapTrie trie = new LinkedHashMapTrie();
+        for (int i = 0; i < 2000; ++i) {
+            trie.add("-app" + i + (i % 2 == 0 ? ".log" : ".conf"));
+        }
+        final Set<String> expected = new HashSet<>(trie.match("*8.log"));
+        Assertions.assertEquals(200, expected.size());
+
+        trie.setSuffixIndexEnabled(true);
+        Assertions.assertTrue(trie.isSuffixIndexEnabled());
+        Assertions.assertEquals(expected, new HashSet<>(trie.match("*8.log")));
+
+        // the index follows the updates of the Trie.
+        trie.add("-extra8.log");
+        trie.remove("-app18.log");
+        expected.add("-extra8.log");
+        expected.remove("-app18.log");
+        Assertions.assertEquals(expected, new HashSet<>(trie.match("*8.log")));
+        Assertions.assertEquals(10, trie.match("*19?9.conf").size());
+
+        trie.clear();
+        Assertions.assertTrue(trie.match("*.log").isEmpty());
+    }
+
+    @Test
+    public void testAddAll() {
+        final List<String> words = new ArrayList<>();
+        for (int i = 0; i < 50000; ++i) {
+            words.add((i % 7 == 0 ? "alpha" : "beta") + Integer.toString(i * 31, 36));
+        }
+        // repeated words and words that are already contained are counted once.
+        words.add("alpha0");
+        words.add("he");
+
+        final LinkedHashMapTrie expected = new LinkedHashMapTrie();
+        for (final String word : words) {
+            expected.add(word);
+        }
+
+        this._trie.setSuffixIndexEnabled(true);
+        this._trie.addAll(words);
+        Assertions.assertEquals(50006, this._trie.size());
+        Assertions.assertEquals(expected.countWords("beta"), this._trie.countWords("beta"));
+        Assertions.assertEquals(expected.stream("alpha").collect(Collectors.toList()),
+                this._trie.stream("alpha").collect(Collectors.toList()));
+        Assertions.assertTrue(this._trie.contains("helloworld"));
+        Assertions.assertEquals(new HashSet<>(expected.match("*zz")), new HashSet<>(this._trie.match("*zz")));
+
+        // the Trie is built in the same order as by add(word).
+        final LinkedHashMapTrie built = new LinkedHashMapTrie();
+        built.addAll(words);
+        Assertions.assertEquals(expected.stream().collect(Collectors.toList()),
+                built.stream().collect(Collectors.toList()));
+        Assertions.assertEquals(expected.getNodeCount(), built.getNodeCount());
+        Assertions.assertEquals(expected.getHeight(), built.getHeight());
+
+        // invalid words are found before any word is added.
+        Assertions.assertThrows(IllegalArgumentException.class, () -> built.addAll(List.of("gamma", "")));
+        Assertions.assertFalse(built.contains("gamma"));
+    }
+}
@@ -0,0 +1,146 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Gregory Brown (sysdevone)
+ */
+public class MappedTrieTest {
+
+    @TempDir
+    Path _directory;
+
+    LinkedHashMapTrie _source;
+
+    @BeforeEach
+    public void setUp() {
+        this._source = new LinkedHashMapTrie();
+        this._source.add("he");
+        this._source.add("hello");
+        this._source.add("helloworld");
+        this._source.add("help");
+        this._source.add("install");
+        this._source.add("info");
+        this._source.add("web01.prod");
+        this._source.add("web02.prod");
+    }
+
+    @Test
+    public void testWriteAndOpen() throws IOException {
+        final Path path = this._directory.resolve("words.trie");
+        MappedTrieWriter.write(this._source, path);
+
+        final MappedTrie trie = MappedTrie.open(path);
+        for (final String word : this._source.getWords()) {
+            Assertions.assertTrue(trie.contains(word), word);
+        }
+        Assertions.assertFalse(trie.contains("hell"));
+        Assertions.assertFalse(trie.contains("web03.prod"));
+
+        Assertions.assertEquals(new HashSet<>(this._source.getWords()), new HashSet<>(trie.getWords()));
+        Assertions.assertEquals(new HashSet<>(this._source.getWords("inztolll")),
+                new HashSet<>(trie.getWords("inztolll")));
+        Assertions.assertEquals(List.of("hello", "helloworld", "help"),
+                trie.stream("hel").collect(Collectors.toList()));
+        Assertions.assertEquals(0, trie.stream("hel111").count());
+        Assertions.assertEquals(this._source.getNodeCount(), trie.getNodeCount());
+        Assertions.assertEquals(this._source.size(), trie.size());
+        Assertions.assertEquals(this._source.getUniqueWord("web01"), trie.getUniqueWord("web01"));
+        Assertions.assertNull(trie.getUniqueWord("hel"));
+        Assertions.assertEquals(this._source.countWords("hel"), trie.countWords("hel"));
+        Assertions.assertEquals(0, trie.countWords("hel111"));
+        Assertions.assertEquals(new HashSet<>(this._source.match("*0?.prod")), new HashSet<>(trie.match("*0?.prod")));
+    }
+
+    @Test
+    public void testParallelStream() throws IOException {
+        final LinkedHashMapTrie source = new LinkedHashMapTrie();
+        for (int i = 0; i < 20000; ++i) {
+            source.add("job-" + Integer.toString(i, 5));
+        }
+        final Path path = this._directory.resolve("jobs.trie");
+        MappedTrieWriter.write(source, path);
+
+        final MappedTrie trie = MappedTrie.open(path);
+        Assertions.assertEquals(trie.stream().collect(Collectors.toList()),
+                trie.stream().parallel().collect(Collectors.toList()));
+        Assertions.assertEquals(20000, trie.stream().parallel().count());
+    }
+
+    @Test
+    public void testReadOnly() throws IOException {
+        final Path path = this._directory.resolve("words.trie");
+        MappedTrieWriter.write(this._source, path);
+
+        final MappedTrie trie = MappedTrie.open(path);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> trie.add("quit"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> trie.clear());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> trie.remove("hello"));
+    }
+
+    @Test
+    public void testBufferBounds() throws IOException {
+        final Path path = this._directory.resolve("words.trie");
+        MappedTrieWriter.write(this._source, path);
+        final byte[] bytes = Files.readAllBytes(path);
+
+        // the file is read from the position of the buffer.
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 8);
+        buffer.position(8);
+        buffer.put(bytes).position(8);
+        final MappedTrie trie = new MappedTrie(buffer);
+        Assertions.assertEquals(8, buffer.position());
+        Assertions.assertEquals(this._source.size(), trie.size());
+        Assertions.assertTrue(trie.contains("helloworld"));
+
+        // a truncated file is reported when it is opened.
+        final IOException truncated = Assertions.assertThrows(IOException.class,
+                () -> new MappedTrie(ByteBuffer.wrap(bytes, 0, bytes.length - 1)));
+        Assertions.assertTrue(truncated.getMessage().contains("corrupt"));
+
+        // the child offset of the first child of the root points into the header.
+        final byte[] corrupt = bytes.clone();
+        final int childOffset = ByteBuffer.wrap(bytes).getInt(16) + 7 + 2;
+        ByteBuffer.wrap(corrupt).putInt(childOffset, 4);
+        Assertions.assertThrows(IOException.class, () -> new MappedTrie(ByteBuffer.wrap(corrupt)));
+    }
+
+    @Test
+    public void testNotATrieFile() throws IOException {
+        final Path path = this._directory.resolve("other.bin");
+        Files.write(path, new byte[64]);
+
+        Assertions.assertThrows(IOException.class, () -> MappedTrie.open(path));
+        Assertions.assertThrows(IOException.class, () -> new MappedTrie(ByteBuffer.allocate(4)));
+    }
+}
@@ -0,0 +1,143 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.gabstudios.collection.PersistentTree.Node;
+
+/**
+ * @author Gregory Brown (sysdevone)
+ */
+public class PersistentTreeTest {
+
+    /*
+     * Counts the nodes of the subtree by walking it.
+     */
+    private static int countNodes(final Node<String> node) {
+        int count = 1;
+        for (final Node<String> child : node.getChildren()) {
+            count += countNodes(child);
+        }
+        return (count);
+    }
+
+    @Test
+    public void testPaths() {
+        final PersistentTree<String> tree = new PersistentTree<>("app");
+        Assertions.assertTrue(tree.addPath(List.of("remote", "add")));
+        Assertions.assertTrue(tree.addPath(List.of("remote", "remove")));
+        Assertions.assertTrue(tree.addPath(List.of("commit")));
+        Assertions.assertFalse(tree.addPath(List.of("remote", "add")));
+
+        Assertions.assertEquals(5, tree.getNodeCount());
+        Assertions.assertEquals(2, tree.getHeight());
+        Assertions.assertEquals("remove", tree.findPath(List.of("remote", "remove")).getData());
+        Assertions.assertSame(tree.getRoot(), tree.findPath(List.of()));
+        Assertions.assertNull(tree.findPath(List.of("commit", "all")));
+        Assertions.assertEquals("remote", tree.getRoot().getChildren().get(0).getData());
+
+        Assertions.assertTrue(tree.removePath(List.of("remote", "add")));
+        Assertions.assertFalse(tree.removePath(List.of("remote", "add")));
+        Assertions.assertEquals(1, tree.findPath(List.of("remote")).getChildCount());
+        Assertions.assertTrue(tree.removePath(List.of("remote")));
+        Assertions.assertEquals(2, tree.getNodeCount());
+        Assertions.assertEquals(1, tree.getHeight());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tree.removePath(List.of()));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> tree.getRoot().getChildren().clear());
+    }
+
+    @Test
+    public void testDeepPaths() {
+        final PersistentTree<Number> tree = new PersistentTree<>(0);
+        final List<Integer> path = new ArrayList<>();
+        for (int i = 1; i <= 40; ++i) {
+            path.add(i);
+        }
+
+        // a path of a subtype of the data, deeper than the first array of positions.
+        Assertions.assertTrue(tree.addPath(path));
+        Assertions.assertFalse(tree.addPath(path.subList(0, 30)));
+        Assertions.assertTrue(tree.addPath(List.of(1, 2, 3, 99)));
+        Assertions.assertEquals(42, tree.getNodeCount());
+        Assertions.assertEquals(40, tree.findPath(path).getData());
+
+        Assertions.assertTrue(tree.removePath(path.subList(0, 20)));
+        Assertions.assertEquals(21, tree.getNodeCount());
+        Assertions.assertEquals(19, tree.getHeight());
+        Assertions.assertNotNull(tree.findPath(List.of(1, 2, 3, 99)));
+    }
+
+    @Test
+    public void testSnapshot() {
+        final PersistentTree<String> tree = new PersistentTree<>("app");
+        tree.addPath(List.of("remote", "add"));
+        tree.addPath(List.of("commit"));
+        final Node<String> remote = tree.findPath(List.of("remote"));
+
+        final PersistentTree<String> snapshot = tree.snapshot();
+        tree.addPath(List.of("commit", "all"));
+        snapshot.removePath(List.of("commit"));
+
+        // each tree sees only its own updates.
+        Assertions.assertNotNull(tree.findPath(List.of("commit", "all")));
+        Assertions.assertNull(snapshot.findPath(List.of("commit")));
+        Assertions.assertEquals(5, tree.getNodeCount());
+        Assertions.assertEquals(3, snapshot.getNodeCount());
+
+        // the subtree that was not on an updated path is shared.
+        Assertions.assertSame(remote, tree.findPath(List.of("remote")));
+        Assertions.assertSame(remote, snapshot.findPath(List.of("remote")));
+    }
+
+    @Test
+    public void testReadersSeeCompleteVersions() throws InterruptedException {
+        final PersistentTree<String> tree = new PersistentTree<>("root");
+        final AtomicBoolean isDone = new AtomicBoolean();
+        final AtomicReference<String> failure = new AtomicReference<>();
+
+        final Thread reader = new Thread(() -> {
+            while (!isDone.get()) {
+                final Node<String> root = tree.getRoot();
+                // every path is added as two levels at once, so a version always has an odd node count.
+                final int count = countNodes(root);
+                if (count != root.getSubtreeSize() || count % 2 == 0) {
+                    failure.set("a version of " + root.getSubtreeSize() + " nodes had " + count);
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 2000; ++i) {
+            tree.addPath(List.of("group" + i, "command"));
+        }
+        isDone.set(true);
+        reader.join();
+
+        Assertions.assertNull(failure.get());
+        Assertions.assertEquals(4001, tree.getNodeCount());
+    }
+}
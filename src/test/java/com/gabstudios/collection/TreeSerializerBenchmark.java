@@ -0,0 +1,107 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gabstudios.collection.LinkedHashMapTree.Node;
+
+/**
+ * Measures reading a serialized LinkedHashMapTree against building it again from its paths. Not run by the build; run
+ * it from the command line after <code>mvn test-compile</code>:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.gabstudios.collection.TreeSerializerBenchmark
+ * </pre>
+ *
+ * @author Gregory Brown (sysdevone)
+ */
+public final class TreeSerializerBenchmark {
+
+    private static final int FAN_OUT = 10;
+    private static final int DEPTH = 6;
+    private static final int ROUNDS = 5;
+
+    /*
+     * Lists the path of every leaf of a full tree.
+     */
+    private static void paths(final String[] path, final int depth, final List<String[]> paths) {
+        if (depth == DEPTH) {
+            paths.add(path.clone());
+            return;
+        }
+        for (int i = 0; i < FAN_OUT; ++i) {
+            path[depth] = "segment-" + depth + "-" + i;
+            paths(path, depth + 1, paths);
+        }
+    }
+
+    private static LinkedHashMapTree<String> insert(final List<String[]> paths) {
+        final LinkedHashMapTree<String> tree = new LinkedHashMapTree<>("/");
+        for (final String[] path : paths) {
+            Node<String> node = tree.getRoot();
+            for (final String segment : path) {
+                final Node<String> child = node.getChild(segment);
+                node = child != null ? child : node.addChild(segment);
+            }
+        }
+        return (tree);
+    }
+
+    private static LinkedHashMapTree<String> read(final byte[] bytes) throws IOException {
+        return (TreeSerializer.read(Channels.newChannel(new ByteArrayInputStream(bytes)), TreeCodec.STRING));
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final List<String[]> paths = new ArrayList<>();
+        paths(new String[DEPTH], 0, paths);
+        final LinkedHashMapTree<String> tree = insert(paths);
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TreeSerializer.write(tree, TreeCodec.STRING, Channels.newChannel(output));
+        final byte[] bytes = output.toByteArray();
+        System.out.println("nodes: " + tree.getNodeCount() + ", bytes: " + bytes.length);
+
+        long insertNanos = Long.MAX_VALUE;
+        long readNanos = Long.MAX_VALUE;
+        // the best of several rounds, after the first rounds have warmed up the JIT.
+        for (int round = 0; round < ROUNDS; ++round) {
+            long start = System.nanoTime();
+            if (insert(paths).getNodeCount() != tree.getNodeCount()) {
+                throw new IllegalStateException("inserted tree differs");
+            }
+            insertNanos = Math.min(insertNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            if (read(bytes).getNodeCount() != tree.getNodeCount()) {
+                throw new IllegalStateException("read tree differs");
+            }
+            readNanos = Math.min(readNanos, System.nanoTime() - start);
+        }
+
+        System.out.printf("insert paths: %8.2f ms%n", insertNanos / 1e6);
+        System.out.printf("read:         %8.2f ms  speedup %.2fx%n", readNanos / 1e6, (double) insertNanos / readNanos);
+    }
+}
@@ -0,0 +1,171 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.gabstudios.collection.LinkedHashMapTree.Node;
+
+/**
+ * @author Gregory Brown (sysdevone)
+ */
+public class TreeSerializerTest {
+
+    private static <T> byte[] write(final LinkedHashMapTree<T> tree, final TreeCodec<T> codec) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TreeSerializer.write(tree, codec, Channels.newChannel(output));
+        return (output.toByteArray());
+    }
+
+    private static <T> LinkedHashMapTree<T> read(final byte[] bytes, final TreeCodec<T> codec) throws IOException {
+        return (TreeSerializer.read(Channels.newChannel(new ByteArrayInputStream(bytes)), codec));
+    }
+
+    /*
+     * Lists the data and child count of each node in pre-order.
+     */
+    private static <T> List<Object> describe(final LinkedHashMapTree<T> tree) {
+        final List<Object> description = new ArrayList<>();
+        final Iterator<Node<T>> iterator = tree.getRoot().preOrderIterator();
+        while (iterator.hasNext()) {
+            final Node<T> node = iterator.next();
+            description.add(node.getData());
+            description.add(node.getChildCount());
+        }
+        return (description);
+    }
+
+    @Test
+    public void testStringTree() throws IOException {
+        final LinkedHashMapTree<String> tree = new LinkedHashMapTree<>("");
+        final Random random = new Random(41);
+        final List<Node<String>> nodes = new ArrayList<>();
+        nodes.add(tree.getRoot());
+        for (int i = 0; i < 20000; ++i) {
+            final String data = Integer.toString(random.nextInt(1000), 36) + (i % 50 == 0 ? "é😀" : "");
+            final Node<String> child = nodes.get(random.nextInt(nodes.size())).addChild(data);
+            if (child != null) {
+                nodes.add(child);
+            }
+        }
+        // a value larger than the buffer.
+        final char[] large = new char[100000];
+        Arrays.fill(large, 'ü');
+        tree.addChild(new String(large));
+
+        final LinkedHashMapTree<String> copy = read(write(tree, TreeCodec.STRING), TreeCodec.STRING);
+        Assertions.assertEquals(describe(tree), describe(copy));
+        Assertions.assertEquals(tree.getNodeCount(), copy.getNodeCount());
+        Assertions.assertEquals(tree.getHeight(), copy.getHeight());
+
+        // the copy is an ordinary tree that keeps its sizes as it changes.
+        final Node<String> first = copy.getRoot().getChildren().get(0);
+        final int size = first.getSubtreeSize();
+        first.addChild("new").addChild("deeper");
+        Assertions.assertEquals(size + 2, first.getSubtreeSize());
+        Assertions.assertEquals(tree.getNodeCount() + 2, copy.getNodeCount());
+    }
+
+    @Test
+    public void testIntegerAndCharacterTrees() throws IOException {
+        final LinkedHashMapTree<Integer> numbers = new LinkedHashMapTree<>(0);
+        Node<Integer> node = numbers.getRoot();
+        for (int i = 1; i <= 5000; ++i) {
+            node = node.addChild(i);
+            node.getParent().addChild(-i);
+        }
+        final LinkedHashMapTree<Integer> numbersCopy = read(write(numbers, TreeCodec.INTEGER), TreeCodec.INTEGER);
+        Assertions.assertEquals(describe(numbers), describe(numbersCopy));
+        Assertions.assertEquals(5000, numbersCopy.getHeight());
+
+        final LinkedHashMapTree<Character> characters = new LinkedHashMapTree<>('/');
+        characters.addChild('a').addChild('b');
+        characters.addChild('ÿ');
+        final LinkedHashMapTree<Character> charactersCopy = read(write(characters, TreeCodec.CHARACTER),
+                TreeCodec.CHARACTER);
+        Assertions.assertEquals(describe(characters), describe(charactersCopy));
+        Assertions.assertEquals(4, charactersCopy.getNodeCount());
+    }
+
+    @Test
+    public void testCorruptData() throws IOException {
+        final LinkedHashMapTree<Integer> tree = new LinkedHashMapTree<>(0);
+        tree.addChild(1).addChild(2);
+        tree.addChild(3);
+        final byte[] bytes = write(tree, TreeCodec.INTEGER);
+
+        final IOException truncated = Assertions.assertThrows(IOException.class,
+                () -> read(Arrays.copyOf(bytes, bytes.length - 1), TreeCodec.INTEGER));
+        Assertions.assertTrue(truncated.getMessage().contains("corrupt"));
+
+        final byte[] magic = bytes.clone();
+        magic[0] = 0;
+        Assertions.assertThrows(IOException.class, () -> read(magic, TreeCodec.INTEGER));
+
+        // the root claims more children than the tree has nodes.
+        final byte[] count = bytes.clone();
+        count[12] = 9;
+        Assertions.assertThrows(IOException.class, () -> read(count, TreeCodec.INTEGER));
+
+        // the last child has the same data as its sibling.
+        final byte[] duplicate = bytes.clone();
+        duplicate[duplicate.length - 1] = 1;
+        Assertions.assertThrows(IOException.class, () -> read(duplicate, TreeCodec.INTEGER));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> read(bytes, null));
+    }
+
+    /*
+     * Writes a header and a root with only the bytes of its child count and an integer of data.
+     */
+    private static byte[] root(final int nodeCount, final byte... childCount) {
+        final ByteBuffer buffer = ByteBuffer.allocate(12 + childCount.length + 5);
+        buffer.putInt(TreeSerializer.MAGIC).putInt(TreeSerializer.VERSION).putInt(nodeCount);
+        buffer.put(childCount).put((byte) 4).putInt(0);
+        return (buffer.array());
+    }
+
+    @Test
+    public void testCorruptCounts() throws IOException {
+        Assertions.assertEquals(0, read(root(1, (byte) 0), TreeCodec.INTEGER).getRoot().getData());
+
+        // a child count that the header allows is read without creating an index of that size.
+        final byte[] wide = root(Integer.MAX_VALUE, (byte) 0xFE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x07);
+        final IOException truncated = Assertions.assertThrows(IOException.class, () -> read(wide, TreeCodec.INTEGER));
+        Assertions.assertTrue(truncated.getMessage().contains("ended early"));
+
+        // the fifth byte of a count has bits that do not fit in an int.
+        final byte[] overflow = root(1, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x10);
+        final IOException range = Assertions.assertThrows(IOException.class, () -> read(overflow, TreeCodec.INTEGER));
+        Assertions.assertTrue(range.getMessage().contains("out of range"));
+    }
+}
@@ -0,0 +1,97 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Gregory Brown (sysdevone)
+ */
+public class TrieMapTest {
+
+    TrieMap<Integer> _map;
+
+    @BeforeEach
+    public void setUp() {
+        this._map = new TrieMap<>();
+        this._map.put("he", 1);
+        this._map.put("hello", 2);
+        this._map.put("helloworld", 3);
+        this._map.put("help", 4);
+        this._map.put("install", 5);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this._map = null;
+    }
+
+    @Test
+    public void testGetPut() {
+        Assertions.assertEquals(5, this._map.size());
+        Assertions.assertEquals(2, this._map.get("hello"));
+        Assertions.assertEquals(2, this._map.get(new StringBuilder("hello")));
+        Assertions.assertNull(this._map.get("hel"));
+        Assertions.assertNull(this._map.get("helloworld!"));
+
+        Assertions.assertEquals(4, this._map.put("help", 40));
+        Assertions.assertEquals(40, this._map.get("help"));
+        Assertions.assertNull(this._map.put("info", 6));
+        Assertions.assertEquals(6, this._map.size());
+        Assertions.assertTrue(this._map.contains("info"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this._map.put("info", null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this._map.get(""));
+    }
+
+    @Test
+    public void testRemove() {
+        Assertions.assertTrue(this._map.remove("hello"));
+        Assertions.assertFalse(this._map.remove("hello"));
+        Assertions.assertNull(this._map.get("hello"));
+        Assertions.assertEquals(3, this._map.get("helloworld"));
+        Assertions.assertEquals(4, this._map.size());
+
+        // a word that is added again does not get the old value back.
+        this._map.add("hello");
+        Assertions.assertNull(this._map.get("hello"));
+    }
+
+    @Test
+    public void testPrefixEntries() {
+        final List<Map.Entry<String, Integer>> expected = List.of(new AbstractMap.SimpleImmutableEntry<>("hello", 2),
+                new AbstractMap.SimpleImmutableEntry<>("helloworld", 3),
+                new AbstractMap.SimpleImmutableEntry<>("help", 4));
+        Assertions.assertEquals(expected, this._map.prefixEntries("hel"));
+        Assertions.assertTrue(this._map.prefixEntries("hex").isEmpty());
+
+        // the words are still ranked by usage.
+        this._map.increment("help");
+        Assertions.assertEquals("help", this._map.getUniqueWord("help"));
+        Assertions.assertEquals(List.of("help", "hello"), this._map.getTopWords("hel", 2));
+    }
+}
@@ -0,0 +1,142 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.collection;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Gregory Brown (sysdevone)
+ */
+public class WeightedTrieTest {
+
+    WeightedTrie _trie;
+
+    @BeforeEach
+    public void setUp() {
+        this._trie = new WeightedTrie();
+        this._trie.add("he");
+        this._trie.add("hello");
+        this._trie.add("helloworld");
+        this._trie.add("help");
+        this._trie.add("install");
+        this._trie.add("info");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this._trie = null;
+    }
+
+    @Test
+    public void testTopWords() {
+        // without weights the order of the Trie is kept.
+        Assertions.assertEquals(List.of("he", "hello", "helloworld", "help", "install", "info"), this._trie.getWords());
+
+        this._trie.increment("help");
+        this._trie.increment("help");
+        this._trie.increment("helloworld");
+        this._trie.increment("info");
+        Assertions.assertFalse(this._trie.increment("hel"));
+
+        Assertions.assertEquals(2.0, this._trie.getWeight("help"));
+        Assertions.assertEquals(0.0, this._trie.getWeight("hel"));
+        Assertions.assertEquals(List.of("help", "helloworld"), this._trie.getTopWords("he", 2));
+        Assertions.assertEquals(List.of("help", "helloworld", "hello"), this._trie.getWords("hel"));
+        Assertions.assertEquals(List.of("info", "install"), this._trie.getWords("inztolll"));
+        Assertions.assertEquals(List.of("help", "helloworld", "info", "he", "hello", "install"), this._trie.getWords());
+    }
+
+    @Test
+    public void testIncrementTimes() {
+        final WeightedTrie single = new WeightedTrie(0.5);
+        final WeightedTrie times = new WeightedTrie(0.5);
+        for (final WeightedTrie trie : List.of(single, times)) {
+            trie.add("help");
+            trie.add("hello");
+            trie.increment("hello");
+        }
+        for (int i = 0; i < 3; ++i) {
+            single.increment("help");
+        }
+        Assertions.assertTrue(times.increment("help", 3));
+        Assertions.assertFalse(times.increment("hel", 3));
+
+        Assertions.assertEquals(single.getWeight("help"), times.getWeight("help"));
+        Assertions.assertEquals(single.getWeight("hello"), times.getWeight("hello"));
+        Assertions.assertEquals(List.of("help", "hello"), times.getWords("hel"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> times.increment("help", 0));
+
+        // so many increments that the other weights decay to 0; the sum of the increments is 1 + 1/2 + 1/4 + ...
+        Assertions.assertTrue(times.increment("help", 5000));
+        Assertions.assertEquals(2.0, times.getWeight("help"));
+        Assertions.assertEquals(0.0, times.getWeight("hello"));
+        Assertions.assertEquals(List.of("help", "hello"), times.getWords("hel"));
+
+        // without decay the weight is the count.
+        Assertions.assertTrue(this._trie.increment("hello", 1_000_000));
+        Assertions.assertEquals(1_000_000.0, this._trie.getWeight("hello"));
+    }
+
+    @Test
+    public void testRemove() {
+        this._trie.increment("helloworld");
+        this._trie.increment("helloworld");
+        this._trie.increment("hello");
+
+        Assertions.assertTrue(this._trie.remove("helloworld"));
+        Assertions.assertEquals(List.of("hello"), this._trie.getTopWords("he", 1));
+
+        // a word that is added again starts without weight.
+        this._trie.add("helloworld");
+        Assertions.assertEquals(0.0, this._trie.getWeight("helloworld"));
+        Assertions.assertEquals(List.of("hello", "he"), this._trie.getTopWords("he", 2));
+    }
+
+    @Test
+    public void testDecay() {
+        final WeightedTrie trie = new WeightedTrie(0.5);
+        trie.add("-old");
+        trie.add("-new");
+
+        trie.increment("-old");
+        trie.increment("-old");
+        trie.increment("-old");
+        trie.increment("-new");
+        trie.increment("-new");
+
+        // -old: (1 * 0.5 + 1) * 0.5 + 1 = 1.75, then decayed twice.
+        Assertions.assertEquals(1.75 * 0.25, trie.getWeight("-old"), 1e-9);
+        Assertions.assertEquals(1.5, trie.getWeight("-new"), 1e-9);
+        Assertions.assertEquals(List.of("-new", "-old"), trie.getWords("-"));
+
+        // the weights are rescaled long before they overflow.
+        for (int i = 0; i < 2000; ++i) {
+            trie.increment((i % 3 == 0) ? "-old" : "-new");
+        }
+        Assertions.assertTrue(Double.isFinite(trie.getWeight("-new")));
+        Assertions.assertEquals(List.of("-new", "-old"), trie.getTopWords("-", 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new WeightedTrie(0));
+    }
+}